@@ -2,6 +2,7 @@ package growthcraft.apples;
 
 import growthcraft.apples.common.CommonProxy;
 import growthcraft.apples.common.Init;
+import growthcraft.apples.common.block.BlockApple;
 import growthcraft.apples.common.compat.rustic.RusticApplesRecipes;
 import growthcraft.apples.shared.Reference;
 import growthcraft.core.shared.compat.Compat;
@@ -62,6 +63,7 @@ public class GrowthcraftApples {
     @Mod.EventHandler
     public void construct(FMLConstructionEvent event) {
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.register(BlockApple.POPULATION);
     }
 
     @SubscribeEvent
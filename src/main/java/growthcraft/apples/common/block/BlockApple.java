@@ -1,6 +1,7 @@
 package growthcraft.apples.common.block;
 
 import growthcraft.apples.shared.Reference;
+import growthcraft.core.shared.block.BlockPopulationIndex;
 import growthcraft.core.shared.block.ICropDataProvider;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
@@ -42,6 +43,9 @@ public class BlockApple extends BlockBush implements ICropDataProvider, IGrowabl
 
     public static final PropertyInteger AGE = PropertyInteger.create("age", 0, 7);
 
+    // Where the apples are, used by the leaves to limit the apples in an area
+    public static final BlockPopulationIndex POPULATION = new BlockPopulationIndex(state -> state.getBlock() instanceof BlockApple);
+
     private static final AxisAlignedBB[] BOUNDING_BOXES = new AxisAlignedBB[]{
             new AxisAlignedBB(
                     0.0625 * 6, 0.0625 * 10, 0.0625 * 6,
@@ -117,6 +121,18 @@ public class BlockApple extends BlockBush implements ICropDataProvider, IGrowabl
         }
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state) {
+        super.onBlockAdded(worldIn, pos, state);
+        POPULATION.onAdded(worldIn, pos);
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state) {
+        POPULATION.onRemoved(worldIn, pos);
+        super.breakBlock(worldIn, pos, state);
+    }
+
     @Override
     public boolean canGrow(World worldIn, BlockPos pos, IBlockState state, boolean isClient) {
         return this.getAge(state) != 7;
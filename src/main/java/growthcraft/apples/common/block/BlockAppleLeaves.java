@@ -143,27 +143,9 @@ public class BlockAppleLeaves extends BlockLeaves implements IGrowable {
         if (!canSustainApple(worldIn, pos, state))
             return false;
 
-        final int iX = pos.getX();
-        final int iY = pos.getY();
-        final int iZ = pos.getZ();
-
-        BlockPos.MutableBlockPos mutpos = new BlockPos.MutableBlockPos();
-        int countApples = 0;
-
-        for (int jX = -APPLE_CHECK_AREA; jX <= APPLE_CHECK_AREA; jX++) {
-            for (int jY = -APPLE_CHECK_AREA; jY <= APPLE_CHECK_AREA; jY++) {
-                for (int jZ = -APPLE_CHECK_AREA; jZ <= APPLE_CHECK_AREA; jZ++) {
-                    mutpos.setPos(iX + jX, iY + jY, iZ + jZ);
-                    IBlockState iblockstate = worldIn.getBlockState(mutpos);
-                    if (iblockstate.getBlock() == GrowthcraftApplesBlocks.blockApple.getBlock()) {
-                        if (++countApples >= MAX_APPLES_IN_AREA)
-                            return false;
-                    }
-                }
-            }
-        }
-
-        return true;
+        final int countApples = BlockApple.POPULATION.count(worldIn, pos,
+                APPLE_CHECK_AREA, APPLE_CHECK_AREA, APPLE_CHECK_AREA, MAX_APPLES_IN_AREA);
+        return countApples < MAX_APPLES_IN_AREA;
     }
 
     @Override
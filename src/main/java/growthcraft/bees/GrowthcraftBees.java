@@ -52,11 +52,11 @@ public class GrowthcraftBees {
         Init.preInitBlocks();
         Init.preInitFluids();
 
-        userBeesConfig.setConfigFile(event.getModConfigurationDirectory(), "growthcraft/bees/bees.json");
+        userBeesConfig.setConfigFile(event.getModConfigurationDirectory(), "growthcraft/bees/bees.json").prefetch();
         userBeesConfig.preInit();
         userBeesConfig.register();
 
-        userFlowersConfig.setConfigFile(event.getModConfigurationDirectory(), "growthcraft/bees/flowers.json");
+        userFlowersConfig.setConfigFile(event.getModConfigurationDirectory(), "growthcraft/bees/flowers.json").prefetch();
         userFlowersConfig.preInit();
         Init.initUserApisDefaults();
         userFlowersConfig.register();
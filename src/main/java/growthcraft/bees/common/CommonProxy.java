@@ -2,14 +2,14 @@ package growthcraft.bees.common;
 
 import growthcraft.bees.shared.config.GrowthcraftBeesConfig;
 import growthcraft.bees.shared.init.GrowthcraftBeesWorldGen;
-import net.minecraftforge.fml.common.registry.GameRegistry;
+import growthcraft.core.shared.worldgen.WorldGenScheduler;
 
 public class CommonProxy {
     // REVISE_TEAM
 
     public void init() {
         if (GrowthcraftBeesConfig.worldgenBeeHive) {
-            GameRegistry.registerWorldGenerator(new GrowthcraftBeesWorldGen(), 0);
+            WorldGenScheduler.instance().addFeature(new GrowthcraftBeesWorldGen());
         }
     }
 
@@ -36,6 +36,7 @@ import growthcraft.core.shared.item.ItemFoodBottleFluid;
 import growthcraft.core.shared.item.OreItemStacks;
 import growthcraft.core.shared.item.recipes.ShapelessMultiRecipe;
 import growthcraft.core.shared.legacy.FluidContainerRegistry;
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
 import growthcraft.core.shared.utils.LootUtils;
 import growthcraft.core.shared.utils.TickUtils;
 import growthcraft.core.shared.definition.ItemTypeDefinition;
@@ -59,7 +60,6 @@ import net.minecraftforge.event.LootTableLoadEvent;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.UniversalBucket;
-import net.minecraftforge.fml.common.registry.GameRegistry;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.oredict.OreDictionary;
@@ -103,7 +103,7 @@ public class Init {
     }
 
     public static void registerTileEntities() {
-        GameRegistry.registerTileEntity(TileEntityBeeBox.class, Reference.MODID + ":bee_box");
+        GrowthcraftTileBase.registerTileEntity(TileEntityBeeBox.class, Reference.MODID + ":bee_box");
     }
 
     ////////
@@ -4,6 +4,7 @@ import growthcraft.bees.shared.Reference;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.block.BlockKey;
 import growthcraft.core.shared.item.ItemKey;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.Item;
@@ -11,18 +12,22 @@ import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class BeesRegistry {
     private static final BeesRegistry INSTANCE = new BeesRegistry();
 
-    private final List<ItemKey> beesList = new ArrayList<ItemKey>();
-    private final Map<ItemKey, ItemStack> emptyToFullHoneyComb = new HashMap<ItemKey, ItemStack>();
-    private final Map<ItemKey, ItemStack> fullToEmptyHoneyComb = new HashMap<ItemKey, ItemStack>();
-    private final Map<BlockKey, IFlowerBlockEntry> flowerEntries = new HashMap<BlockKey, IFlowerBlockEntry>();
+    private final List<ItemKey> beesList = new CopyOnWriteArrayList<ItemKey>();
+    private final CopyOnWriteMap<ItemKey, ItemStack> emptyToFullHoneyComb = new CopyOnWriteMap<ItemKey, ItemStack>();
+    private final CopyOnWriteMap<ItemKey, ItemStack> fullToEmptyHoneyComb = new CopyOnWriteMap<ItemKey, ItemStack>();
+    private final CopyOnWriteMap<BlockKey, IFlowerBlockEntry> flowerEntries = new CopyOnWriteMap<BlockKey, IFlowerBlockEntry>();
+    // isBlockFlower results by state, bee boxes ask for the same few states over and over.
+    // Replaced rather than cleared when a flower is added, so a lookup racing the add can
+    // only fill the discarded cache. States don't override equals, the map is by identity.
+    private volatile Map<IBlockState, Boolean> flowerStates = new ConcurrentHashMap<IBlockState, Boolean>();
 
     public static final BeesRegistry instance() {
         return INSTANCE;
@@ -113,6 +118,7 @@ public class BeesRegistry {
     public void addFlower(@Nonnull BlockKey key, @Nonnull IFlowerBlockEntry entry) {
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding Flower {%s}:{%s}", key, entry);
         flowerEntries.put(key, entry);
+        this.flowerStates = new ConcurrentHashMap<IBlockState, Boolean>();
     }
 
     public void addFlower(@Nonnull IFlowerBlockEntry entry) {
@@ -178,7 +184,13 @@ public class BeesRegistry {
     }
 
     public boolean isBlockFlower(@Nullable IBlockState blockState) {
-        return flowerEntries.containsKey(new BlockKey(blockState)) ||
-                flowerEntries.containsKey(new BlockKey(blockState.getBlock(), ItemKey.WILDCARD_VALUE));
+        final Map<IBlockState, Boolean> cache = flowerStates;
+        Boolean result = cache.get(blockState);
+        if (result == null) {
+            result = flowerEntries.containsKey(new BlockKey(blockState)) ||
+                    flowerEntries.containsKey(new BlockKey(blockState.getBlock(), ItemKey.WILDCARD_VALUE));
+            cache.put(blockState, result);
+        }
+        return result;
     }
 }
@@ -34,6 +34,11 @@ public class TileEntityBeeBox extends GrowthcraftTileInventoryBase implements IT
     private static final int[] beeSlotIds = new int[]{0};
     private static final int[] honeyCombSlotIds = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};
     private DeviceBeeBox beeBox = new DeviceBeeBox(this);
+    // Comb counts, recounted on the first request after the inventory was marked dirty
+    private boolean combCountsDirty = true;
+    private int filledCombCount;
+    private int emptyCombCount;
+    private int combCount;
 
     @Override
     public String getGuiID() {
@@ -45,8 +50,16 @@ public class TileEntityBeeBox extends GrowthcraftTileInventoryBase implements IT
         return new ContainerBeeBox(playerInventory, this);
     }
 
+    @Override
+    public void markDirty() {
+        // containers and hoppers change stacks in place and only call markDirty
+        this.combCountsDirty = true;
+        super.markDirty();
+    }
+
     @Override
     public void onInventoryChanged(IInventory inv, int index) {
+        this.combCountsDirty = true;
         super.onInventoryChanged(inv, index);
         if (index == 0) {
             markDirty();
@@ -110,16 +123,36 @@ public class TileEntityBeeBox extends GrowthcraftTileInventoryBase implements IT
         return slotHasHoneyComb(index, HoneyCombExpect.EMPTY);
     }
 
-    public int countCombsOfType(HoneyCombExpect type) {
-        int count = 0;
+    private void recountCombs() {
+        if (!combCountsDirty) return;
+        int filled = 0;
+        int empty = 0;
+        int any = 0;
         for (int i = 1; i < getSizeInventory(); ++i) {
-            if (!ItemUtils.isEmpty(getStackInSlot(i))) {
-                if (slotHasHoneyComb(i, type)) {
-                    count++;
-                }
-            }
+            final ItemStack stack = getStackInSlot(i);
+            if (ItemUtils.isEmpty(stack)) continue;
+            final boolean isFilled = BeesRegistry.instance().isItemFilledHoneyComb(stack);
+            final boolean isEmpty = BeesRegistry.instance().isItemEmptyHoneyComb(stack);
+            if (isFilled) filled++;
+            if (isEmpty) empty++;
+            if (isFilled || isEmpty) any++;
+        }
+        this.filledCombCount = filled;
+        this.emptyCombCount = empty;
+        this.combCount = any;
+        this.combCountsDirty = false;
+    }
+
+    public int countCombsOfType(HoneyCombExpect type) {
+        recountCombs();
+        switch (type) {
+            case EMPTY:
+                return emptyCombCount;
+            case FILLED:
+                return filledCombCount;
+            default:
+                return combCount;
         }
-        return count;
     }
 
     //counts filled honeycombs only
@@ -0,0 +1,114 @@
+package growthcraft.bees.common.tileentity.device;
+
+import growthcraft.bees.common.lib.config.BeesRegistry;
+import net.minecraft.block.BlockFlowerPot;
+import net.minecraft.block.BlockFlowerPot.EnumFlowerType;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Caches the flower / grass / flower pot score of the area around a bee box.
+ * <p>
+ * The score of every column in the area is remembered, instead of reading the whole
+ * area on every request only the columns that are due are read again: one column every
+ * {@link #TICKS_PER_COLUMN} ticks since the last request, so a request never costs more
+ * than a full scan, and frequent requests cost next to nothing.
+ */
+public class BeeBoxEnvironment {
+    private static final int CHECK_SIZE = 5;
+    private static final int SIDE = CHECK_SIZE * 2;
+    private static final int COLUMNS = SIDE * SIDE;
+    // Every column is read again at least once in COLUMNS * TICKS_PER_COLUMN ticks
+    private static final int TICKS_PER_COLUMN = 20;
+
+    // Column scores, in steps of 0.09 (a grass block counts 0.36 / 4)
+    private static final byte NONE = 0;
+    private static final byte GRASS = 1;
+    private static final byte FLOWER_POT = 2;
+    private static final byte FLOWER_ON_GRASS = 3;
+    private static final float STEP = 0.09F;
+
+    private final byte[] columns = new byte[COLUMNS];
+    private final MutableBlockPos scanPos = new MutableBlockPos();
+    private BlockPos origin;
+    private int total;
+    private int cursor;
+    private long lastScan = -1;
+
+    /**
+     * @param world - world
+     * @param pos   - position of the bee box
+     * @return the area's score, 1.0 for an area without any grass or flowers
+     */
+    public float getScore(World world, BlockPos pos) {
+        final long now = world.getTotalWorldTime();
+        if (lastScan < 0 || now < lastScan || !pos.equals(origin)) {
+            this.origin = pos.toImmutable();
+            scan(world, COLUMNS);
+            this.lastScan = now;
+        } else {
+            final long due = (now - lastScan) / TICKS_PER_COLUMN;
+            if (due >= COLUMNS) {
+                scan(world, COLUMNS);
+                this.lastScan = now;
+            } else if (due > 0) {
+                scan(world, (int) due);
+                this.lastScan += due * TICKS_PER_COLUMN;
+            }
+        }
+        return 1.0F + total * STEP;
+    }
+
+    /**
+     * Reads the column at the given position again, if it's part of the area.
+     *
+     * @param world   - world
+     * @param changed - changed position
+     */
+    public void refresh(World world, BlockPos changed) {
+        if (origin == null) return;
+        final int lx = changed.getX() - originX();
+        final int lz = changed.getZ() - originZ();
+        if (lx >= 0 && lx < SIDE && lz >= 0 && lz < SIDE) {
+            scanColumn(world, lx * SIDE + lz);
+        }
+    }
+
+    public void invalidate() {
+        this.lastScan = -1;
+    }
+
+    // The area is offset from the box the same way the original 10x10 scan was
+    private int originX() {
+        return origin.getX() - ((CHECK_SIZE - 1) / 2) - CHECK_SIZE;
+    }
+
+    private int originZ() {
+        return origin.getZ() - ((CHECK_SIZE - 1) / 2) - CHECK_SIZE;
+    }
+
+    private void scan(World world, int count) {
+        for (int n = 0; n < count; ++n) {
+            scanColumn(world, cursor);
+            this.cursor = (cursor + 1) % COLUMNS;
+        }
+    }
+
+    private void scanColumn(World world, int index) {
+        scanPos.setPos(originX() + index / SIDE, origin.getY(), originZ() + index % SIDE);
+        final IBlockState flower = world.getBlockState(scanPos);
+        final IBlockState soil = world.getBlockState(scanPos.move(EnumFacing.DOWN));
+        byte value = NONE;
+        if (soil.getBlock() == Blocks.GRASS) {
+            value = BeesRegistry.instance().isBlockFlower(flower) ? FLOWER_ON_GRASS : GRASS;
+        } else if (flower.getBlock() == Blocks.FLOWER_POT && flower.getValue(BlockFlowerPot.CONTENTS) != EnumFlowerType.EMPTY) {
+            value = FLOWER_POT;
+        }
+        total += value - columns[index];
+        columns[index] = value;
+    }
+}
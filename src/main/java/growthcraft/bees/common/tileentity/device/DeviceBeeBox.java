@@ -6,28 +6,26 @@ import growthcraft.bees.common.tileentity.TileEntityBeeBox;
 import growthcraft.bees.shared.config.GrowthcraftBeesConfig;
 import growthcraft.core.shared.block.BlockFlags;
 import growthcraft.core.shared.tileentity.device.DeviceBase;
-import growthcraft.core.shared.utils.RandomUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockFlowerPot;
-import net.minecraft.block.BlockFlowerPot.EnumFlowerType;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 public class DeviceBeeBox extends DeviceBase {
-    // Temp variable used by BlockBeeBox for storing flower lists
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    public List<List> flowerList = new ArrayList<List>();
+    // Flowers are looked up again after this many ticks, in between the known ones are reused
+    private static final int FLOWER_RESCAN_TICKS = 1200;
+
+    private final BeeBoxEnvironment environment = new BeeBoxEnvironment();
+    // Positions (BlockPos#toLong) of the flowers around the box, as of flowersScannedAt
+    private long[] flowerPositions = new long[16];
+    private int flowerCount;
+    private long flowersScannedAt = -1;
     private final float honeyCombSpawnRate = GrowthcraftBeesConfig.beeBoxHoneyCombSpawnRate;
     private final float honeySpawnRate = GrowthcraftBeesConfig.beeBoxHoneySpawnRate;
     private final float beeSpawnRate = GrowthcraftBeesConfig.beeBoxBeeSpawnRate;
@@ -72,65 +70,59 @@ public class DeviceBeeBox extends DeviceBase {
         return BeesRegistry.instance().isBlockFlower(blockState);
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private List<List> gatherFlowersInRadius(World world, BlockPos pos, int checkSize, List<List> list) {
+    private void addFlowerPosition(long packed) {
+        if (flowerCount == flowerPositions.length) {
+            final long[] grown = new long[flowerPositions.length * 2];
+            System.arraycopy(flowerPositions, 0, grown, 0, flowerCount);
+            this.flowerPositions = grown;
+        }
+        flowerPositions[flowerCount++] = packed;
+    }
+
+    private void removeFlowerPosition(int index) {
+        flowerPositions[index] = flowerPositions[--flowerCount];
+    }
+
+    private void gatherFlowersInRadius(World world, BlockPos pos, int checkSize) {
         final int i = pos.getX() - ((checkSize - 1) / 2);
         final int k = pos.getZ() - ((checkSize - 1) / 2);
 
+        this.flowerCount = 0;
         MutableBlockPos fpos = new MutableBlockPos();
         for (int xLoop = -checkSize; xLoop < checkSize; xLoop++) {
             for (int yLoop = -checkSize; yLoop < checkSize; yLoop++) {
                 fpos.setPos(i + xLoop, pos.getY(), k + yLoop);
                 if (!world.isAirBlock(fpos)) {
-                    final IBlockState flower = world.getBlockState(fpos);
-                    final Block flowerBlock = flower.getBlock();
-                    if (flower != null) {
-                        if (isBlockFlower(flower)) {
-                            list.add(Arrays.asList(flower, flowerBlock.getMetaFromState(flower)));
-                        }
+                    if (isBlockFlower(world.getBlockState(fpos))) {
+                        addFlowerPosition(fpos.toLong());
                     }
                 }
             }
         }
-        return list;
+        this.flowersScannedAt = world.getTotalWorldTime();
     }
 
-    private float calcGrowthRate(World world, BlockPos pos) {
-        final int checkSize = 5;
-        final int i = pos.getX() - ((checkSize - 1) / 2);
-        final int k = pos.getZ() - ((checkSize - 1) / 2);
-        float f = 1.0F;
-
-        MutableBlockPos fpos = new MutableBlockPos();
-        for (int loopx = -checkSize; loopx < checkSize; loopx++) {
-            for (int loopz = -checkSize; loopz < checkSize; loopz++) {
-                fpos.setPos(i + loopx, pos.getY(), k + loopz);
-
-                final IBlockState flower = world.getBlockState(fpos);
-                final Block flowerBlock = flower.getBlock();
-                final IBlockState soil = world.getBlockState(fpos.down());
-                float f1 = 0.0F;
-
-                if (soil.getBlock() == Blocks.GRASS) {
-                    //f1 = 1.0F;
-                    f1 = 0.36F;
-
-                    if (isBlockFlower(flower)) {
-                        //f1 = 3.0F;
-                        f1 = 1.08F;
-                    }
-                } else if (flower.getBlock() == Blocks.FLOWER_POT && flower.getValue(BlockFlowerPot.CONTENTS) != EnumFlowerType.EMPTY
-						/*(world.getBlockMetadata(i + loopx, y, k + loopz) == 1 ||
-					world.getBlockMetadata(i + loopx, y, k + loopz) == 2)*/) {
-                    //f1 = 2.0F;
-                    f1 = 0.72F;
-                }
-
-                f1 /= 4.0F;
-
-                f += f1;
-            }
+    /**
+     * Picks a random flower around the box, flowers which are gone since the last scan are dropped.
+     *
+     * @return the flower's state, or null if there are no flowers
+     */
+    private IBlockState sampleFlower(World world, BlockPos pos, int checkSize) {
+        final long now = world.getTotalWorldTime();
+        if (flowersScannedAt < 0 || now < flowersScannedAt || now - flowersScannedAt >= FLOWER_RESCAN_TICKS) {
+            gatherFlowersInRadius(world, pos, checkSize);
+        }
+        while (flowerCount > 0) {
+            final int index = random.nextInt(flowerCount);
+            final IBlockState state = world.getBlockState(BlockPos.fromLong(flowerPositions[index]));
+            if (isBlockFlower(state)) return state;
+            removeFlowerPosition(index);
         }
+        return null;
+    }
+
+    private float calcGrowthRate(World world, BlockPos pos) {
+        float f = environment.getScore(world, pos);
 
         final TileEntityBeeBox te = getParentTile();
 
@@ -167,7 +159,6 @@ public class DeviceBeeBox extends DeviceBase {
         return filled - empty;
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public void updateTick() {
         final TileEntityBeeBox te = getParentTile();
         if (!canDoWork() || !te.hasBees()) return;
@@ -221,23 +212,18 @@ public class DeviceBeeBox extends DeviceBase {
         final int spawnRate = (int) (this.flowerSpawnRate / f) + 1;
         if (random.nextInt(spawnRate) == 0) {
             final int checkSize = flowerRadius;
+            final IBlockState blockState = sampleFlower(getWorld(), pos, checkSize);
 
-            flowerList.clear();
-            gatherFlowersInRadius(getWorld(), pos, checkSize, flowerList);
-
-            if (!flowerList.isEmpty()) {
+            if (blockState != null) {
                 BlockPos randomPos = new BlockPos(pos.getX() + random.nextInt(checkSize * 2) - checkSize, pos.getY(), pos.getZ() + random.nextInt(checkSize * 2) - checkSize);
-                final List randomList = RandomUtils.sample(random, flowerList);
-
-                if (randomList != null) {
-                    final IBlockState blockState = (IBlockState) randomList.get(0);
-                    final Block block = blockState.getBlock();
-                    final int meta = (int) randomList.get(1);
-                    final IFlowerBlockEntry entry = BeesRegistry.instance().getFlowerBlockEntry(block, meta);
-                    if (entry != null) {
-                        if (entry.canPlaceAt(getWorld(), randomPos)) {
-                            getWorld().setBlockState(randomPos, block.getStateFromMeta(meta), BlockFlags.SYNC);
-                        }
+                final Block block = blockState.getBlock();
+                final int meta = block.getMetaFromState(blockState);
+                final IFlowerBlockEntry entry = BeesRegistry.instance().getFlowerBlockEntry(block, meta);
+                if (entry != null) {
+                    if (entry.canPlaceAt(getWorld(), randomPos)) {
+                        getWorld().setBlockState(randomPos, block.getStateFromMeta(meta), BlockFlags.SYNC);
+                        // the new flower counts towards the growth rate right away
+                        environment.refresh(getWorld(), randomPos);
                     }
                 }
             }
@@ -1,24 +1,43 @@
 package growthcraft.bees.shared.init;
 
 import growthcraft.bees.common.worldgen.BeeHiveWorldGen;
+import growthcraft.core.shared.worldgen.IWorldGenFeature;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.IChunkProvider;
-import net.minecraft.world.gen.IChunkGenerator;
-import net.minecraftforge.fml.common.IWorldGenerator;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.common.BiomeDictionary;
 
 import java.util.Random;
 
-public class GrowthcraftBeesWorldGen implements IWorldGenerator {
+public class GrowthcraftBeesWorldGen implements IWorldGenFeature {
 
     private BeeHiveWorldGen beeHiveWorldGen = new BeeHiveWorldGen();
 
     @Override
-    public void generate(Random random, int chunkX, int chunkZ, World world, IChunkGenerator iChunkGenerator, IChunkProvider iChunkProvider) {
-        int x = chunkX + random.nextInt(16);
-        int z = chunkX + random.nextInt(16);
-        int y = chunkX + random.nextInt(16) + 64;
+    public String getName() {
+        return "bee_hive";
+    }
+
+    @Override
+    public boolean canGenerateIn(World world) {
+        return world.provider.isSurfaceWorld();
+    }
+
+    @Override
+    public boolean canGenerateIn(Biome biome) {
+        // hives hang below leaves, so only biomes which grow trees
+        if (BiomeDictionary.hasType(biome, BiomeDictionary.Type.OCEAN)) return false;
+        // extraTreeChance keeps its default in biomes which turn trees off through treesPerChunk
+        final int trees = biome.decorator.treesPerChunk;
+        return trees > 0 || (trees == 0 && biome.decorator.extraTreeChance > 0);
+    }
+
+    @Override
+    public boolean generate(World world, Random random, BlockPos origin) {
+        final int x = random.nextInt(16);
+        final int z = random.nextInt(16);
+        final int y = random.nextInt(16) + 64;
 
-        beeHiveWorldGen.generate(world, random, new BlockPos(x, y, z));
+        return beeHiveWorldGen.generate(world, random, origin.add(x, y, z));
     }
 }
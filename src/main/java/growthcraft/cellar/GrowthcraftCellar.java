@@ -32,6 +32,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
+import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.registries.IForgeRegistry;
 
 @Mod(modid = Reference.MODID, name = Reference.NAME, version = Reference.VERSION,
@@ -58,17 +59,23 @@ public class GrowthcraftCellar {
 
         GrowthcraftCellarApis.userApis = new UserApis();
         GrowthcraftCellarApis.userApis.getUserBrewingRecipes()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/brewing.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/brewing.json")
+                .prefetch();
         GrowthcraftCellarApis.userApis.getUserCultureRecipes()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/culturing.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/culturing.json")
+                .prefetch();
         GrowthcraftCellarApis.userApis.getUserFermentingRecipes()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/fermenting.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/fermenting.json")
+                .prefetch();
         GrowthcraftCellarApis.userApis.getUserHeatSources()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/heatsources.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/heatsources.json")
+                .prefetch();
         GrowthcraftCellarApis.userApis.getUserPressingRecipes()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/pressing.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/pressing.json")
+                .prefetch();
         GrowthcraftCellarApis.userApis.getUserYeastEntries()
-                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/yeast.json");
+                .setConfigFile(event.getModConfigurationDirectory(), "growthcraft/cellar/yeast.json")
+                .prefetch();
 
         GrowthcraftCellarApis.boozeBuilderFactory = new CellarBoozeBuilderFactory(GrowthcraftCellarApis.userApis);
 
@@ -138,6 +145,12 @@ public class GrowthcraftCellar {
         proxy.postRegisterItems();
     }
 
+    @SubscribeEvent
+    public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+        // Recipe indices key ore ingredients by their items, so they have to be rebuilt
+        CellarRegistry.instance().invalidateRecipeIndices();
+    }
+
     @SubscribeEvent
     public void registerPotions(RegistryEvent.Register<Potion> event) {
         IForgeRegistry<Potion> registry = event.getRegistry();
@@ -35,6 +35,7 @@ import growthcraft.core.shared.CoreRegistry;
 import growthcraft.core.shared.definition.BlockDefinition;
 import growthcraft.core.shared.definition.ItemDefinition;
 import growthcraft.core.shared.effect.EffectRegistry;
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -100,11 +101,11 @@ public class Init {
     }
 
     public static void registerTileEntities() {
-        GameRegistry.registerTileEntity(TileEntityBrewKettle.class, Reference.MODID + ":brew_kettle");
-        GameRegistry.registerTileEntity(TileEntityFermentBarrel.class, Reference.MODID + ":ferment_barrel");
-        GameRegistry.registerTileEntity(TileEntityCultureJar.class, Reference.MODID + ":culture_jar");
-        GameRegistry.registerTileEntity(TileEntityFruitPress.class, Reference.MODID + ":fruit_press");
-        GameRegistry.registerTileEntity(TileEntityFruitPresser.class, Reference.MODID + ":fruit_presser");
+        GrowthcraftTileBase.registerTileEntity(TileEntityBrewKettle.class, Reference.MODID + ":brew_kettle");
+        GrowthcraftTileBase.registerTileEntity(TileEntityFermentBarrel.class, Reference.MODID + ":ferment_barrel");
+        GrowthcraftTileBase.registerTileEntity(TileEntityCultureJar.class, Reference.MODID + ":culture_jar");
+        GrowthcraftTileBase.registerTileEntity(TileEntityFruitPress.class, Reference.MODID + ":fruit_press");
+        GrowthcraftTileBase.registerTileEntity(TileEntityFruitPresser.class, Reference.MODID + ":fruit_presser");
     }
 
     ///////////
@@ -13,6 +13,7 @@ import growthcraft.cellar.common.tileentity.device.BrewKettle;
 import growthcraft.cellar.common.tileentity.fluids.CellarTank;
 import growthcraft.core.shared.client.utils.FXHelper;
 import growthcraft.core.shared.inventory.GrowthcraftInternalInventory;
+import growthcraft.core.shared.inventory.GuiNetworkSync;
 import growthcraft.core.shared.item.ItemUtils;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
@@ -29,7 +30,7 @@ import io.netty.util.internal.MathUtil;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.IContainerListener;
+import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -43,25 +44,6 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 
 public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITickable, ITileHeatedDevice, ITileProgressiveDevice // , IItemOperable
 {
-    public static enum BrewKettleDataID {
-        TIME,
-        TIME_MAX,
-        HEAT_AMOUNT,
-        UNKNOWN;
-
-        public static final BrewKettleDataID[] VALUES = new BrewKettleDataID[]
-                {
-                        TIME,
-                        TIME_MAX,
-                        HEAT_AMOUNT
-                };
-
-        public static BrewKettleDataID getByOrdinal(int ord) {
-            if (ord >= 0 && ord < VALUES.length) return VALUES[ord];
-            return UNKNOWN;
-        }
-    }
-
     private static final int[] rawSlotIDs = new int[]{0, 1, 2};
     private static final int[] residueSlotIDs = new int[]{0};
     private DeviceInventorySlot invSlotForLid = new DeviceInventorySlot(this, 2);
@@ -94,6 +76,13 @@ public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITic
         // Brew Kettles need to update their rendering state when a fluid
         // changes, most of the other cellar blocks are unaffected by this
         markForUpdate();
+        brewKettle.markForRecipeRecheck();
+    }
+
+    @Override
+    public void onInventoryChanged(IInventory inv, int index) {
+        super.onInventoryChanged(inv, index);
+        brewKettle.markForRecipeRecheck();
     }
 
     @Override
@@ -235,45 +224,35 @@ public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITic
         return false;
     }
 
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
+    public boolean readFromStream_BrewKettleHeat(ByteBuf stream) throws IOException {
+        brewKettle.getHeatComponent().readFromStream(stream);
+        return false;
+    }
+
+    // heat is a separate network section, so the brewing progress doesn't resend it every tick
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
     public boolean writeToStream_BrewKettle(ByteBuf stream) throws IOException {
         brewKettle.writeToStream(stream);
         return false;
     }
 
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
+    public boolean writeToStream_BrewKettleHeat(ByteBuf stream) throws IOException {
+        brewKettle.getHeatComponent().writeToStream(stream);
+        return false;
+    }
+
     /************
      * PACKETS
      ************/
 
-    /**
-     * @param id - data id
-     * @param v  - value
-     */
-    @Override
-    public void receiveGUINetworkData(int id, int v) {
-        super.receiveGUINetworkData(id, v);
-        final BrewKettleDataID dataId = BrewKettleDataID.getByOrdinal(id);
-        switch (dataId) {
-            case TIME:
-                brewKettle.setTime(v);
-                break;
-            case TIME_MAX:
-                brewKettle.setTimeMax(v);
-                break;
-            case HEAT_AMOUNT:
-                brewKettle.setHeatMultiplier((float) v / (float) 0x7FFF);
-                break;
-            default:
-                break;
-        }
-    }
-
     @Override
-    public void sendGUINetworkData(Container container, IContainerListener iCrafting) {
-        super.sendGUINetworkData(container, iCrafting);
-        iCrafting.sendWindowProperty(container, BrewKettleDataID.TIME.ordinal(), (int) brewKettle.getTime());
-        iCrafting.sendWindowProperty(container, BrewKettleDataID.TIME_MAX.ordinal(), (int) brewKettle.getTimeMax());
-        iCrafting.sendWindowProperty(container, BrewKettleDataID.HEAT_AMOUNT.ordinal(), (int) (brewKettle.getHeatMultiplier() * 0x7FFF));
+    public void addGuiNetworkSyncValues(GuiNetworkSync sync) {
+        super.addGuiNetworkSyncValues(sync);
+        sync.addInt(() -> (int) brewKettle.getTime(), v -> brewKettle.setTime(v))
+                .addInt(() -> (int) brewKettle.getTimeMax(), v -> brewKettle.setTimeMax(v))
+                .addInt(() -> (int) (brewKettle.getHeatMultiplier() * 0x7FFF), v -> brewKettle.setHeatMultiplier((float) v / (float) 0x7FFF));
     }
 
     @Override
@@ -4,6 +4,8 @@ import java.io.IOException;
 
 import growthcraft.cellar.shared.config.GrowthcraftCellarConfig;
 import growthcraft.cellar.common.inventory.ContainerCultureJar;
+import growthcraft.core.shared.inventory.GuiNetworkSync;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.tileentity.component.TileHeatingComponent;
 import growthcraft.cellar.common.tileentity.device.CultureGenerator;
 import growthcraft.cellar.common.tileentity.device.YeastGenerator;
@@ -17,7 +19,7 @@ import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.IContainerListener;
+import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
@@ -27,29 +29,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
 public class TileEntityCultureJar extends TileEntityCellarDevice implements ITickable, ITileHeatedDevice, ITileProgressiveDevice {
-    public static enum CultureJarDataId {
-        YEAST_GEN_TIME,
-        YEAST_GEN_TIME_MAX,
-        CULTURE_GEN_TIME,
-        CULTURE_GEN_TIME_MAX,
-        HEAT_AMOUNT,
-        UNKNOWN;
-
-        public static final CultureJarDataId[] VALID = new CultureJarDataId[]
-                {
-                        YEAST_GEN_TIME,
-                        YEAST_GEN_TIME_MAX,
-                        CULTURE_GEN_TIME,
-                        CULTURE_GEN_TIME_MAX,
-                        HEAT_AMOUNT
-                };
-
-        public static CultureJarDataId getByOrdinal(int ord) {
-            if (ord >= 0 && ord < VALID.length) return VALID[ord];
-            return UNKNOWN;
-        }
-    }
-
     private static final int[] accessibleSlots = new int[]{0};
     private TileHeatingComponent heatComponent;
     private CultureGenerator cultureGen;
@@ -122,6 +101,15 @@ public class TileEntityCultureJar extends TileEntityCellarDevice implements ITic
         // Ferment Jars need to update their rendering state when a fluid
         // changes, most of the other cellar blocks are unaffected by this
         markForUpdate();
+        cultureGen.markForRecipeRecheck();
+        yeastGen.markForRecipeRecheck();
+    }
+
+    @Override
+    public void onInventoryChanged(IInventory inv, int index) {
+        super.onInventoryChanged(inv, index);
+        cultureGen.markForRecipeRecheck();
+        yeastGen.markForRecipeRecheck();
     }
 
     @Override
@@ -174,42 +162,18 @@ public class TileEntityCultureJar extends TileEntityCellarDevice implements ITic
             if (jarDeviceState != lastState) {
                 markDirtyAndUpdate();
             }
+            if (heatComponent.isSettled() && !yeastGen.canProduceYeast()) sleep();
         }
     }
 
     @Override
-    public void receiveGUINetworkData(int id, int v) {
-        super.receiveGUINetworkData(id, v);
-        switch (CultureJarDataId.getByOrdinal(id)) {
-            case YEAST_GEN_TIME:
-                yeastGen.setTime(v);
-                break;
-            case YEAST_GEN_TIME_MAX:
-                yeastGen.setTimeMax(v);
-                break;
-            case CULTURE_GEN_TIME:
-                cultureGen.setTime(v);
-                break;
-            case CULTURE_GEN_TIME_MAX:
-                cultureGen.setTimeMax(v);
-                break;
-            case HEAT_AMOUNT:
-                heatComponent.setHeatMultiplier((float) v / (float) 0x7FFF);
-                break;
-            default:
-                // should warn about invalid Data ID
-                break;
-        }
-    }
-
-    @Override
-    public void sendGUINetworkData(Container container, IContainerListener iCrafting) {
-        super.sendGUINetworkData(container, iCrafting);
-        iCrafting.sendWindowProperty(container, CultureJarDataId.YEAST_GEN_TIME.ordinal(), yeastGen.getTime());
-        iCrafting.sendWindowProperty(container, CultureJarDataId.YEAST_GEN_TIME_MAX.ordinal(), yeastGen.getTimeMax());
-        iCrafting.sendWindowProperty(container, CultureJarDataId.CULTURE_GEN_TIME.ordinal(), cultureGen.getTime());
-        iCrafting.sendWindowProperty(container, CultureJarDataId.CULTURE_GEN_TIME_MAX.ordinal(), cultureGen.getTimeMax());
-        iCrafting.sendWindowProperty(container, CultureJarDataId.HEAT_AMOUNT.ordinal(), (int) (heatComponent.getHeatMultiplier() * 0x7FFF));
+    public void addGuiNetworkSyncValues(GuiNetworkSync sync) {
+        super.addGuiNetworkSyncValues(sync);
+        sync.addInt(yeastGen::getTime, yeastGen::setTime)
+                .addInt(yeastGen::getTimeMax, yeastGen::setTimeMax)
+                .addInt(cultureGen::getTime, cultureGen::setTime)
+                .addInt(cultureGen::getTimeMax, cultureGen::setTimeMax)
+                .addInt(() -> (int) (heatComponent.getHeatMultiplier() * 0x7FFF), v -> heatComponent.setHeatMultiplier((float) v / (float) 0x7FFF));
     }
 
     @TileEventHandler(event = TileEventHandler.EventType.NBT_READ)
@@ -228,7 +192,7 @@ public class TileEntityCultureJar extends TileEntityCellarDevice implements ITic
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
     public boolean readFromStream_YeastGen(ByteBuf stream) throws IOException {
-        this.jarDeviceState = stream.readInt();
+        this.jarDeviceState = StreamUtils.readVarInt(stream);
         yeastGen.readFromStream(stream);
         cultureGen.readFromStream(stream);
         heatComponent.readFromStream(stream);
@@ -237,7 +201,7 @@ public class TileEntityCultureJar extends TileEntityCellarDevice implements ITic
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
     public boolean writeToStream_YeastGen(ByteBuf stream) throws IOException {
-        stream.writeInt(jarDeviceState);
+        StreamUtils.writeVarInt(stream, jarDeviceState);
         yeastGen.writeToStream(stream);
         cultureGen.writeToStream(stream);
         heatComponent.writeToStream(stream);
@@ -7,6 +7,7 @@ import growthcraft.cellar.shared.config.GrowthcraftCellarConfig;
 import growthcraft.cellar.shared.init.GrowthcraftCellarItems;
 import growthcraft.core.shared.fluids.FluidTest;
 import growthcraft.core.shared.inventory.GrowthcraftInternalInventory;
+import growthcraft.core.shared.inventory.GuiNetworkSync;
 import growthcraft.core.shared.inventory.InventoryProcessor;
 import growthcraft.core.shared.io.nbt.INBTItemSerializable;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
@@ -15,7 +16,6 @@ import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.IContainerListener;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -28,23 +28,6 @@ import net.minecraftforge.fluids.FluidTank;
 import java.io.IOException;
 
 public class TileEntityFermentBarrel extends TileEntityCellarDevice implements IInventory, ITickable, ITileProgressiveDevice, INBTItemSerializable {
-    public static enum FermentBarrelDataID {
-        TIME,
-        TIME_MAX,
-        UNKNOWN;
-
-        public static final FermentBarrelDataID[] VALID = new FermentBarrelDataID[]
-                {
-                        TIME,
-                        TIME_MAX
-                };
-
-        public static FermentBarrelDataID getByaOrdinal(int ord) {
-            if (ord >= 0 && ord <= VALID.length) return VALID[ord];
-            return UNKNOWN;
-        }
-    }
-
     // Constants
     private static final int[] accessableSlotIds = new int[]{0};
     private final FermentBarrel fermentBarrel = new FermentBarrel(this, 0, 1, 0);
@@ -154,26 +137,10 @@ public class TileEntityFermentBarrel extends TileEntityCellarDevice implements I
     }
 
     @Override
-    public void receiveGUINetworkData(int id, int v) {
-        super.receiveGUINetworkData(id, v);
-        switch (FermentBarrelDataID.getByaOrdinal(id)) {
-            case TIME:
-                fermentBarrel.setTime(v);
-                break;
-            case TIME_MAX:
-                fermentBarrel.setTimeMax(v);
-                break;
-            default:
-                // should warn about invalid Data ID
-                break;
-        }
-    }
-
-    @Override
-    public void sendGUINetworkData(Container container, IContainerListener iCrafting) {
-        super.sendGUINetworkData(container, iCrafting);
-        iCrafting.sendWindowProperty(container, FermentBarrelDataID.TIME.ordinal(), fermentBarrel.getTime());
-        iCrafting.sendWindowProperty(container, FermentBarrelDataID.TIME_MAX.ordinal(), fermentBarrel.getTimeMax());    // Not fermentBarrel.getTimeMaxDefault() !
+    public void addGuiNetworkSyncValues(GuiNetworkSync sync) {
+        super.addGuiNetworkSyncValues(sync);
+        sync.addInt(fermentBarrel::getTime, fermentBarrel::setTime)
+                .addInt(fermentBarrel::getTimeMax, fermentBarrel::setTimeMax);    // Not fermentBarrel.getTimeMaxDefault() !
     }
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
@@ -5,12 +5,13 @@ import growthcraft.cellar.common.inventory.ContainerFruitPress;
 import growthcraft.cellar.common.tileentity.device.FruitPress;
 import growthcraft.cellar.common.tileentity.fluids.CellarTank;
 import growthcraft.core.shared.inventory.GrowthcraftInternalInventory;
+import growthcraft.core.shared.inventory.GuiNetworkSync;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.ITileProgressiveDevice;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.IContainerListener;
+import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
@@ -22,14 +23,6 @@ import net.minecraftforge.fluids.FluidTank;
 public class TileEntityFruitPress extends TileEntityCellarDevice implements ITickable, ITileProgressiveDevice {
     // INITIALIZE
 
-    public static class FruitPressDataID {
-        public static final int TIME = 0;
-        public static final int TIME_MAX = 1;
-
-        private FruitPressDataID() {
-        }
-    }
-
     private static final int[] allSlotIds = new int[]{0, 1};
     private static final int[] residueSlotIds = new int[]{0};
     private FruitPress fruitPress = new FruitPress(this, 0, 0, 1);
@@ -109,9 +102,16 @@ public class TileEntityFruitPress extends TileEntityCellarDevice implements ITic
     @Override
     protected void markFluidDirty() {
         super.markFluidDirty();
+        fruitPress.markForRecipeRecheck();
         markDirtyAndUpdate();
     }
 
+    @Override
+    public void onInventoryChanged(IInventory inv, int index) {
+        super.onInventoryChanged(inv, index);
+        fruitPress.markForRecipeRecheck();
+    }
+
     /************
      * NBT
      ************/
@@ -147,31 +147,11 @@ public class TileEntityFruitPress extends TileEntityCellarDevice implements ITic
      * PACKETS
      ************/
 
-    /**
-     * @param id - data id
-     * @param v  - value
-     */
-    @Override
-    public void receiveGUINetworkData(int id, int v) {
-        super.receiveGUINetworkData(id, v);
-        switch (id) {
-            case FruitPressDataID.TIME:
-                fruitPress.setTime(v);
-                break;
-            case FruitPressDataID.TIME_MAX:
-                fruitPress.setTimeMax(v);
-                break;
-            default:
-                // should warn about invalid Data ID
-                break;
-        }
-    }
-
     @Override
-    public void sendGUINetworkData(Container container, IContainerListener iCrafting) {
-        super.sendGUINetworkData(container, iCrafting);
-        iCrafting.sendWindowProperty(container, FruitPressDataID.TIME, fruitPress.getTime());
-        iCrafting.sendWindowProperty(container, FruitPressDataID.TIME_MAX, fruitPress.getTimeMax());
+    public void addGuiNetworkSyncValues(GuiNetworkSync sync) {
+        super.addGuiNetworkSyncValues(sync);
+        sync.addInt(fruitPress::getTime, fruitPress::setTime)
+                .addInt(fruitPress::getTimeMax, fruitPress::setTimeMax);
     }
 
     @Override
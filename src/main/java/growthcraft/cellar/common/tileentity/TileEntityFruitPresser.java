@@ -38,6 +38,9 @@ public class TileEntityFruitPresser extends GrowthcraftTileBase implements ITick
             this.trans -= this.transSpd;
         } else if (pressed == PressState.PRESSED && this.trans < this.transMax) {
             this.trans += this.transSpd;
+        } else {
+            // at rest, changing the pressed state notifies the neighbours which wakes it
+            sleep();
         }
     }
 
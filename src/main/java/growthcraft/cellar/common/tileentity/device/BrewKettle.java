@@ -12,14 +12,13 @@ import growthcraft.core.shared.fluids.GrowthcraftFluidUtils;
 import growthcraft.core.shared.tileentity.device.DeviceBase;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fluids.FluidStack;
 
 public class BrewKettle extends DeviceBase {
-    // TODO: Create same recipe caching mechanism as for barrels. Is more performant, if recipe check is avoided on each TileEntity update.
-
     private float grain;
     private double time;
     private double timeMax;
@@ -29,6 +28,7 @@ public class BrewKettle extends DeviceBase {
     private DeviceFluidSlot inputFluidSlot;
     private DeviceFluidSlot outputFluidSlot;
     private TileHeatingComponent heatComponent;
+    private final RecipeCache<IBrewingRecipe> recipeCache = new RecipeCache<IBrewingRecipe>();
 
     public BrewKettle(TileEntityCellarDevice te, int brewSlotId, int residueSlotId, int lidSlotId, int inputFluidSlotId, int outputFluidSlotId) {
         super(te);
@@ -86,6 +86,10 @@ public class BrewKettle extends DeviceBase {
         return heatComponent.getHeatMultiplier();
     }
 
+    public TileHeatingComponent getHeatComponent() {
+        return heatComponent;
+    }
+
     public boolean isHeated() {
         return getHeatMultiplier() > 0;
     }
@@ -94,9 +98,16 @@ public class BrewKettle extends DeviceBase {
         return inputFluidSlot.hasContent() || outputFluidSlot.hasContent();
     }
 
+    public void markForRecipeRecheck() {
+        recipeCache.invalidate();
+    }
+
     private IBrewingRecipe findRecipe() {
-        boolean hasLid = GrowthcraftCellarItems.brewKettleLid.equals(lidSlot.get().getItem());
-        return CellarRegistry.instance().brewing().findRecipe(GrowthcraftFluidUtils.removeStackTags(inputFluidSlot.get()), brewingSlot.get(), hasLid);
+        final boolean hasLid = GrowthcraftCellarItems.brewKettleLid.equals(lidSlot.get().getItem());
+        if (!recipeCache.begin().put(inputFluidSlot.get()).put(brewingSlot.get()).put(hasLid).isUnchanged()) {
+            recipeCache.set(CellarRegistry.instance().brewing().findRecipe(GrowthcraftFluidUtils.removeStackTags(inputFluidSlot.get()), brewingSlot.get(), hasLid));
+        }
+        return recipeCache.get();
     }
 
     public IBrewingRecipe getWorkingRecipe() {
@@ -168,6 +179,8 @@ public class BrewKettle extends DeviceBase {
         } else {
             if (resetTime()) markForUpdate();
         }
+        // without heat the brewing doesn't progress
+        if (heatComponent.isSettled()) sleep();
     }
 
     @Override
@@ -187,6 +200,8 @@ public class BrewKettle extends DeviceBase {
     }
 
     /**
+     * The heat component isn't part of the stream, see {@link #getHeatComponent()}
+     *
      * @param buf - buffer to read from
      */
     @Override
@@ -195,11 +210,12 @@ public class BrewKettle extends DeviceBase {
         this.time = buf.readDouble();
         this.timeMax = buf.readDouble();
         this.grain = buf.readFloat();
-        heatComponent.readFromStream(buf);
         return false;
     }
 
     /**
+     * The heat component isn't part of the stream, see {@link #getHeatComponent()}
+     *
      * @param buf - buffer to write to
      */
     @Override
@@ -208,7 +224,6 @@ public class BrewKettle extends DeviceBase {
         buf.writeDouble(time);
         buf.writeDouble(timeMax);
         buf.writeFloat(grain);
-        heatComponent.writeToStream(buf);
         return false;
     }
 }
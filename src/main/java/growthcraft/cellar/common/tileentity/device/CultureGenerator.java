@@ -7,11 +7,13 @@ import growthcraft.core.shared.tileentity.component.TileHeatingComponent;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
 import growthcraft.core.shared.tileentity.device.DeviceProgressive;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 
 public class CultureGenerator extends DeviceProgressive {
     protected DeviceFluidSlot fluidSlot;
     protected DeviceInventorySlot invSlot;
     protected TileHeatingComponent heatComponent;
+    private final RecipeCache<ICultureRecipe> recipeCache = new RecipeCache<ICultureRecipe>();
 
     /**
      * @param te             - parent tile entity
@@ -28,6 +30,20 @@ public class CultureGenerator extends DeviceProgressive {
         setTimeMax(1200);
     }
 
+    public void markForRecipeRecheck() {
+        recipeCache.invalidate();
+    }
+
+    private ICultureRecipe findRecipe() {
+        final float heat = heatComponent.getHeatMultiplier();
+        // the heat swings around its target every tick, only its level decides the recipe
+        final int heatLevel = CellarRegistry.instance().culturing().getHeatLevel(heat);
+        if (!recipeCache.begin().put(fluidSlot.get()).put(heatLevel).isUnchanged()) {
+            recipeCache.set(CellarRegistry.instance().culturing().findRecipe(fluidSlot.get(), heat));
+        }
+        return recipeCache.get();
+    }
+
     public float getHeatMultiplier() {
         return heatComponent.getHeatMultiplier();
     }
@@ -57,7 +73,7 @@ public class CultureGenerator extends DeviceProgressive {
 
     @Override
     public void update() {
-        final ICultureRecipe activeRecipe = CellarRegistry.instance().culturing().findRecipe(fluidSlot.get(), heatComponent.getHeatMultiplier());
+        final ICultureRecipe activeRecipe = findRecipe();
 
         if (isRecipeValid(activeRecipe)) {
             setTimeMax(activeRecipe.getTime());
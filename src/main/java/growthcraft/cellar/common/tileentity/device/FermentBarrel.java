@@ -7,10 +7,12 @@ import growthcraft.cellar.shared.processing.fermenting.IFermentationRecipe;
 import growthcraft.core.shared.definition.IMultiItemStacks;
 import growthcraft.core.shared.fluids.GrowthcraftFluidUtils;
 import growthcraft.core.shared.io.nbt.NBTHelper;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.item.ItemUtils;
 import growthcraft.core.shared.tileentity.device.DeviceBase;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -24,6 +26,7 @@ public class FermentBarrel extends DeviceBase {
     protected int time;
     private boolean recheckRecipe = true;
     private IFermentationRecipe activeRecipe;
+    private int activeRecipeGeneration;
 
     private DeviceInventorySlot fermentSlot;
     private DeviceInventorySlot tapSlot;
@@ -57,6 +60,11 @@ public class FermentBarrel extends DeviceBase {
 
     private IFermentationRecipe refreshRecipe() {
         final IFermentationRecipe recipe = loadRecipe();
+        if (activeRecipeGeneration != RecipeCache.getGeneration()) {
+            // the recipes were reloaded, the new recipe takes over without resetting the time
+            this.activeRecipeGeneration = RecipeCache.getGeneration();
+            this.activeRecipe = null;
+        }
         if (recipe != null && recipe != activeRecipe) {
             if (activeRecipe != null) {
                 resetTime();
@@ -75,7 +83,7 @@ public class FermentBarrel extends DeviceBase {
 
     private IFermentationRecipe getWorkingRecipe() {
         if (shouldUseCachedRecipe) {
-            if (activeRecipe == null) refreshRecipe();
+            if (activeRecipe == null || activeRecipeGeneration != RecipeCache.getGeneration()) refreshRecipe();
             return activeRecipe;
         }
         return loadRecipe();
@@ -164,9 +172,9 @@ public class FermentBarrel extends DeviceBase {
                 resetTime();
                 markDirty();
             }
+            // nothing to ferment until the tank or the inventory changes
+            if (!recheckRecipe) sleep();
         }
-
-
     }
 
     // I/O Stuff
@@ -192,14 +200,14 @@ public class FermentBarrel extends DeviceBase {
 
     @Override
     public boolean readFromStream(ByteBuf buf) {
-        this.time = buf.readInt();
-        this.timemax = buf.readInt();
+        this.time = StreamUtils.readVarInt(buf);
+        this.timemax = StreamUtils.readVarInt(buf);
         return false;
     }
 
     public boolean writeToStream(ByteBuf buf) {
-        buf.writeInt(this.time);
-        buf.writeInt(this.timemax);    // Change of logic! Not using getTimeMax()
+        StreamUtils.writeVarInt(buf, this.time);
+        StreamUtils.writeVarInt(buf, this.timemax);    // Change of logic! Not using getTimeMax()
         return false;
     }
 
@@ -9,6 +9,7 @@ import growthcraft.cellar.common.tileentity.TileEntityCellarDevice;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
 import growthcraft.core.shared.tileentity.device.DeviceProgressive;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import growthcraft.core.shared.item.ItemUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -20,6 +21,7 @@ public class FruitPress extends DeviceProgressive {
     private DeviceInventorySlot inputSlot;
     private DeviceInventorySlot residueSlot;
     private IPressingRecipe currentResult;
+    private final RecipeCache<IPressingRecipe> recipeCache = new RecipeCache<IPressingRecipe>();
 
     /**
      * @param te - parent tile
@@ -34,6 +36,17 @@ public class FruitPress extends DeviceProgressive {
         this.residueSlot = new DeviceInventorySlot(te, rs);
     }
 
+    public void markForRecipeRecheck() {
+        recipeCache.invalidate();
+    }
+
+    private IPressingRecipe findRecipe(ItemStack stack) {
+        if (!recipeCache.begin().put(stack).isUnchanged()) {
+            recipeCache.set(CellarRegistry.instance().pressing().getPressingRecipe(stack));
+        }
+        return recipeCache.get();
+    }
+
     /**
      * @return meta - the metadata for the FruitPresser usually above the fruit press
      */
@@ -50,7 +63,7 @@ public class FruitPress extends DeviceProgressive {
 
         if (fluidSlot.isFull()) return false;
 
-        final IPressingRecipe result = CellarRegistry.instance().pressing().getPressingRecipe(primarySlotItem);
+        final IPressingRecipe result = findRecipe(primarySlotItem);
         if (result == null) return false;
         if (!inputSlot.hasEnough(result.getInput())) return false;
         this.currentResult = result;
@@ -94,6 +107,7 @@ public class FruitPress extends DeviceProgressive {
             }
         } else {
             if (resetTime()) markDirty();
+            sleep();
         }
     }
 
@@ -15,6 +15,7 @@ import growthcraft.core.shared.item.WeightedItemStack;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
 import growthcraft.core.shared.tileentity.device.DeviceProgressive;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import growthcraft.core.shared.item.ItemUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.WeightedRandom;
@@ -27,6 +28,8 @@ public class YeastGenerator extends DeviceProgressive {
     protected DeviceFluidSlot fluidSlot;
     protected DeviceInventorySlot invSlot;
     protected List<WeightedItemStack> tempItemList = new ArrayList<WeightedItemStack>();
+    // caches the registry part of canProduceYeast (is the item a yeast, is the fluid young booze)
+    private final RecipeCache<Boolean> yeastCache = new RecipeCache<Boolean>();
 
     /**
      * @param te             - parent tile entity
@@ -42,6 +45,10 @@ public class YeastGenerator extends DeviceProgressive {
         setTimeMax(1200);
     }
 
+    public void markForRecipeRecheck() {
+        yeastCache.invalidate();
+    }
+
     /**
      * How many fluid units are consumed per yeast gen?
      *
@@ -83,6 +90,13 @@ public class YeastGenerator extends DeviceProgressive {
     public boolean canProduceYeast() {
         if (fluidSlot.getAmount() < consumption) return false;
         final ItemStack yeastItem = invSlot.get();
+        if (!yeastCache.begin().put(fluidSlot.get()).put(yeastItem).isUnchanged()) {
+            yeastCache.set(checkYeastProduction(yeastItem));
+        }
+        return yeastCache.get();
+    }
+
+    private boolean checkYeastProduction(ItemStack yeastItem) {
         // we can ignore null items, this will fallback to the initProduceYeast
         if (!ItemUtils.isEmpty(yeastItem)) {
             if (!canReplicateYeast(yeastItem)) return false;
@@ -17,11 +17,11 @@ public class CellarRegistry {
     private static final CellarRegistry INSTANCE = new CellarRegistry();
 
     private final BoozeRegistry boozeRegistry = new BoozeRegistry();
-    private final BrewingRegistry brewingRegistry = new BrewingRegistry();
-    private final CulturingRegistry culturingRegistry = new CulturingRegistry();
-    private final FermentingRegistry fermentingRegistry = new FermentingRegistry();
+    private volatile BrewingRegistry brewingRegistry = new BrewingRegistry();
+    private volatile CulturingRegistry culturingRegistry = new CulturingRegistry();
+    private volatile FermentingRegistry fermentingRegistry = new FermentingRegistry();
     private final HeatSourceRegistry heatSourceRegistry = new HeatSourceRegistry();
-    private final PressingRegistry pressingRegistry = new PressingRegistry();
+    private volatile PressingRegistry pressingRegistry = new PressingRegistry();
     private final YeastRegistry yeastRegistry = new YeastRegistry();
 
     /**
@@ -51,6 +51,15 @@ public class CellarRegistry {
         return brewingRegistry;
     }
 
+    /**
+     * Replaces the BrewingRegistry, i.e. after the user config was reloaded.
+     *
+     * @param registry - filled registry to use from now on
+     */
+    public void setBrewingRegistry(BrewingRegistry registry) {
+        this.brewingRegistry = registry;
+    }
+
     /**
      * @return instance of the CulturingRegistry
      */
@@ -58,6 +67,15 @@ public class CellarRegistry {
         return culturingRegistry;
     }
 
+    /**
+     * Replaces the CulturingRegistry, i.e. after the user config was reloaded.
+     *
+     * @param registry - filled registry to use from now on
+     */
+    public void setCulturingRegistry(CulturingRegistry registry) {
+        this.culturingRegistry = registry;
+    }
+
     /**
      * @return instance of the PressingRegistry
      */
@@ -65,6 +83,15 @@ public class CellarRegistry {
         return pressingRegistry;
     }
 
+    /**
+     * Replaces the PressingRegistry, i.e. after the user config was reloaded.
+     *
+     * @param registry - filled registry to use from now on
+     */
+    public void setPressingRegistry(PressingRegistry registry) {
+        this.pressingRegistry = registry;
+    }
+
     /**
      * @return instance of the FermentingRegistry
      */
@@ -72,6 +99,15 @@ public class CellarRegistry {
         return fermentingRegistry;
     }
 
+    /**
+     * Replaces the FermentingRegistry, i.e. after the user config was reloaded.
+     *
+     * @param registry - filled registry to use from now on
+     */
+    public void setFermentingRegistry(FermentingRegistry registry) {
+        this.fermentingRegistry = registry;
+    }
+
     /**
      * @return instance of the HeatSourceRegistry
      */
@@ -86,6 +122,15 @@ public class CellarRegistry {
         return yeastRegistry;
     }
 
+    /**
+     * Drops the recipe lookup indices, i.e. after the ore dictionary changed.
+     */
+    public void invalidateRecipeIndices() {
+        brewingRegistry.invalidateIndex();
+        fermentingRegistry.invalidateIndex();
+        pressingRegistry.invalidateIndex();
+    }
+
     public static void onPostInit() {
         if (!GrowthcraftCellarConfig.boozeEffectsEnabled) {
             GrowthcraftLogger.getLogger(Reference.MODID).debug("Stripping ALL booze effects except tipsy");
@@ -1,8 +1,7 @@
 package growthcraft.cellar.shared.booze;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -12,21 +11,28 @@ import growthcraft.cellar.shared.booze.modifier.IModifierFunction;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.fluids.FluidTag;
 import growthcraft.core.shared.fluids.GrowthcraftFluidUtils;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class BoozeRegistry {
     // REVISE_ME 0
 
-    private Map<Fluid, BoozeEntry> boozeMap = new HashMap<Fluid, BoozeEntry>();
-    private Map<FluidTag, IModifierFunction> tagModifierFunctions = new HashMap<FluidTag, IModifierFunction>();
+    private final CopyOnWriteMap<Fluid, BoozeEntry> boozeMap = new CopyOnWriteMap<Fluid, BoozeEntry>();
+    // indexed by the tags' ordinals, replaced rather than changed
+    private volatile IModifierFunction[] tagModifierFunctions = new IModifierFunction[0];
 
+    @Nullable
     public IModifierFunction getModifierFunction(@Nullable FluidTag tag) {
-        return tagModifierFunctions.get(tag);
+        if (tag == null) return null;
+        final IModifierFunction[] functions = tagModifierFunctions;
+        return tag.getOrdinal() < functions.length ? functions[tag.getOrdinal()] : null;
     }
 
-    public void setModifierFunction(@Nonnull FluidTag tag, IModifierFunction func) {
-        tagModifierFunctions.put(tag, func);
+    public synchronized void setModifierFunction(@Nonnull FluidTag tag, IModifierFunction func) {
+        final IModifierFunction[] functions = Arrays.copyOf(tagModifierFunctions, Math.max(tagModifierFunctions.length, tag.getOrdinal() + 1));
+        functions[tag.getOrdinal()] = func;
+        this.tagModifierFunctions = functions;
     }
 
     public Collection<BoozeEntry> getBoozeEntries() {
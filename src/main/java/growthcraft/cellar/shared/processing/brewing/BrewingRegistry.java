@@ -1,26 +1,54 @@
 package growthcraft.cellar.shared.processing.brewing;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.cellar.shared.Reference;
 import growthcraft.cellar.shared.config.GrowthcraftCellarConfig;
+import growthcraft.cellar.shared.processing.common.RecipeIndex;
 import growthcraft.cellar.shared.processing.common.Residue;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.item.MultiStacksUtil;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class BrewingRegistry {
-    private List<IBrewingRecipe> recipes = new ArrayList<IBrewingRecipe>();
+    private static final RecipeIndex.IKeyProvider<IBrewingRecipe> KEY_PROVIDER = new RecipeIndex.IKeyProvider<IBrewingRecipe>() {
+        @Override
+        public Collection<Fluid> getFluidKeys(@Nonnull IBrewingRecipe recipe) {
+            if (recipe instanceof BrewingFallbackRecipe)
+                return RecipeIndex.fluidKeysOf(recipe.getInputFluidStack());
+            return null;
+        }
+
+        @Override
+        public Collection<Item> getItemKeys(@Nonnull IBrewingRecipe recipe) {
+            if (recipe instanceof BrewingRecipe)
+                return RecipeIndex.itemKeysOf(recipe.getInputItemStack());
+            return null;
+        }
+    };
+
+    private final List<IBrewingRecipe> recipes = new CopyOnWriteArrayList<IBrewingRecipe>();
+    private final RecipeIndex<IBrewingRecipe> recipeIndex = new RecipeIndex<IBrewingRecipe>(KEY_PROVIDER);
+    private final RecipeIndex<IBrewingRecipe> fallbackIndex = new RecipeIndex<IBrewingRecipe>(KEY_PROVIDER);
 
     public void addRecipe(@Nonnull IBrewingRecipe recipe) {
         // TODO: Warn if multiple fallback recipes exist for same input fluid
 
         recipes.add(recipe);
+        if (isFallbackRecipe(recipe)) {
+            fallbackIndex.add(recipe);
+        } else {
+            recipeIndex.add(recipe);
+        }
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Added Brewing Recipe recipe={%s}", recipe);
     }
 
@@ -39,16 +67,12 @@ public class BrewingRegistry {
     public IBrewingRecipe findRecipe(@Nullable FluidStack fluidstack, @Nullable ItemStack itemstack, boolean requiresLid, boolean forceAllowFallback) {
         if (itemstack == null || fluidstack == null) return null;
 
-        for (IBrewingRecipe recipe : recipes) {
-            if (isFallbackRecipe(recipe))
-                continue;
+        for (IBrewingRecipe recipe : recipeIndex.findCandidates(fluidstack.getFluid(), itemstack.getItem())) {
             if (recipe.matchesRecipe(fluidstack, itemstack, requiresLid)) return recipe;
         }
 
         if (GrowthcraftCellarConfig.allowFallbackRecipes || forceAllowFallback) {
-            for (IBrewingRecipe recipe : recipes) {
-                if (!isFallbackRecipe(recipe))
-                    continue;
+            for (IBrewingRecipe recipe : fallbackIndex.findCandidates(fluidstack.getFluid())) {
                 if (recipe.matchesIngredient(fluidstack)) return recipe;
             }
         }
@@ -98,15 +122,21 @@ public class BrewingRegistry {
     public boolean isItemBrewingIngredient(@Nullable ItemStack itemstack) {
         if (itemstack == null) return false;
 
-        for (IBrewingRecipe recipe : recipes) {
-            if (isFallbackRecipe(recipe))    // Ignore fallback recipes
-                continue;
-
+        // Fallback recipes are kept in their own index and are ignored here
+        for (IBrewingRecipe recipe : recipeIndex.findCandidates(itemstack.getItem())) {
             if (recipe.isItemIngredient(itemstack)) return true;
         }
         return false;
     }
 
+    /**
+     * Drops the lookup indices, they are rebuilt on the next query.
+     */
+    public void invalidateIndex() {
+        recipeIndex.invalidate();
+        fallbackIndex.invalidate();
+    }
+
     public boolean isFallbackRecipe(IBrewingRecipe recipe) {
         return (recipe instanceof BrewingFallbackRecipe) && !(recipe instanceof BrewingRecipe);
     }
@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 
 import growthcraft.cellar.shared.CellarRegistry;
 import growthcraft.cellar.shared.Reference;
+import growthcraft.cellar.shared.processing.brewing.BrewingRegistry;
 import growthcraft.cellar.shared.processing.common.Residue;
 import growthcraft.cellar.shared.config.schema.ResidueSchema;
 import growthcraft.core.shared.definition.IMultiItemStacks;
@@ -64,7 +65,7 @@ public class UserBrewingRecipesConfig extends AbstractUserJSONConfig {
         this.recipes = gson.fromJson(reader, UserBrewingRecipes.class);
     }
 
-    private void addBrewingRecipe(UserBrewingRecipe recipe) {
+    private void addBrewingRecipe(BrewingRegistry registry, UserBrewingRecipe recipe) {
         if (recipe == null) {
             GrowthcraftLogger.getLogger(Reference.MODID).error("Invalid recipe");
             return;
@@ -105,22 +106,34 @@ public class UserBrewingRecipesConfig extends AbstractUserJSONConfig {
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding user brewing recipe {%s}", recipe);
         if (recipe.item != null) {
             for (IMultiItemStacks item : recipe.item.getMultiItemStacks()) {
-                CellarRegistry.instance().brewing().addRecipe(inputFluidStack, item, outputFluidStack, recipe.requiresLid, recipe.time, residue);
+                registry.addRecipe(inputFluidStack, item, outputFluidStack, recipe.requiresLid, recipe.time, residue);
             }
         } else {
-            CellarRegistry.instance().brewing().addFallbackRecipe(inputFluidStack, outputFluidStack, recipe.time, residue);
+            registry.addFallbackRecipe(inputFluidStack, outputFluidStack, recipe.time, residue);
         }
     }
 
-    @Override
-    public void postInit() {
+    private void applyRecipes(BrewingRegistry registry) {
         if (recipes != null) {
             if (recipes.data != null) {
                 GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding %d user brewing recipes.", recipes.data.size());
-                for (UserBrewingRecipe recipe : recipes.data) addBrewingRecipe(recipe);
+                for (UserBrewingRecipe recipe : recipes.data) addBrewingRecipe(registry, recipe);
             } else {
                 GrowthcraftLogger.getLogger(Reference.MODID).error("Recipes data is invalid!");
             }
         }
     }
+
+    @Override
+    public void postInit() {
+        applyRecipes(CellarRegistry.instance().brewing());
+    }
+
+    @Override
+    public synchronized boolean reapply() {
+        final BrewingRegistry registry = new BrewingRegistry();
+        applyRecipes(registry);
+        CellarRegistry.instance().setBrewingRegistry(registry);
+        return true;
+    }
 }
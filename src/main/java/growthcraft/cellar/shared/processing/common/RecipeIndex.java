@@ -0,0 +1,290 @@
+package growthcraft.cellar.shared.processing.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import growthcraft.core.shared.definition.IMultiFluidStacks;
+import growthcraft.core.shared.definition.IMultiItemStacks;
+import growthcraft.core.shared.fluids.MultiFluidStacks;
+import growthcraft.core.shared.fluids.TaggedFluidStacks;
+import growthcraft.core.shared.item.MultiItemStacks;
+import growthcraft.core.shared.item.OreItemStacks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Indexes recipes by their input Fluid and Item, so registries can narrow a lookup
+ * down to a handful of candidates instead of scanning every recipe.
+ * <p>
+ * The index only preselects candidates, the registry still has to call the recipe's
+ * own matching method on them. Candidate lists keep the order in which recipes were
+ * added, so the first match is the same recipe a linear scan would return.
+ * <p>
+ * A recipe whose keys can't be determined (null keys) is treated as a candidate for
+ * every fluid or item respectively.
+ * <p>
+ * Lookups may come from any thread and never lock: the recipes and the index built from
+ * them are an immutable snapshot, which adding a recipe or invalidating the index replaces.
+ *
+ * @param <R> recipe type
+ */
+public class RecipeIndex<R> {
+    public interface IKeyProvider<R> {
+        /**
+         * @param recipe - recipe being indexed
+         * @return the fluids this recipe can accept, or null if it may accept any fluid
+         */
+        @Nullable
+        Collection<Fluid> getFluidKeys(@Nonnull R recipe);
+
+        /**
+         * @param recipe - recipe being indexed
+         * @return the items this recipe can accept, or null if it may accept any item
+         */
+        @Nullable
+        Collection<Item> getItemKeys(@Nonnull R recipe);
+    }
+
+    private static class Bucket<R> {
+        private final List<R> recipes = new ArrayList<R>();
+        private final Map<Item, List<R>> byItem = new IdentityHashMap<Item, List<R>>();
+        private final List<R> anyItem = new ArrayList<R>();
+
+        List<R> get(@Nonnull Item item) {
+            final List<R> result = byItem.get(item);
+            return result != null ? result : anyItem;
+        }
+    }
+
+    private static class Index<R> {
+        private final Map<Fluid, Bucket<R>> byFluid;
+        private final Bucket<R> anyFluid;
+        private final Bucket<R> all;
+
+        Index(Map<Fluid, Bucket<R>> byFluid, Bucket<R> anyFluid, Bucket<R> all) {
+            this.byFluid = byFluid;
+            this.anyFluid = anyFluid;
+            this.all = all;
+        }
+    }
+
+    private static class Snapshot<R> {
+        private final List<R> recipes;
+        // built on the first lookup, a stale build only ever lands in a replaced snapshot
+        private volatile Index<R> index;
+
+        Snapshot(List<R> recipes) {
+            this.recipes = recipes;
+        }
+    }
+
+    private final IKeyProvider<R> keyProvider;
+    private volatile Snapshot<R> snapshot = new Snapshot<R>(Collections.<R>emptyList());
+
+    public RecipeIndex(@Nonnull IKeyProvider<R> provider) {
+        this.keyProvider = provider;
+    }
+
+    public synchronized void add(@Nonnull R recipe) {
+        final List<R> recipes = new ArrayList<R>(snapshot.recipes);
+        recipes.add(recipe);
+        this.snapshot = new Snapshot<R>(Collections.unmodifiableList(recipes));
+    }
+
+    /**
+     * Drops the current index, it will be rebuilt on the next lookup.
+     * Call this whenever something the keys depend on changed (i.e. the ore dictionary).
+     */
+    public synchronized void invalidate() {
+        this.snapshot = new Snapshot<R>(snapshot.recipes);
+    }
+
+    /**
+     * @return all indexed recipes, in the order they were added
+     */
+    public List<R> getRecipes() {
+        return snapshot.recipes;
+    }
+
+    public boolean isEmpty() {
+        return snapshot.recipes.isEmpty();
+    }
+
+    /**
+     * @param fluid - input fluid
+     * @return recipes which may accept the fluid
+     */
+    public List<R> findCandidates(@Nullable Fluid fluid) {
+        return getBucket(fluid).recipes;
+    }
+
+    /**
+     * @param item - input item
+     * @return recipes which may accept the item
+     */
+    public List<R> findCandidates(@Nullable Item item) {
+        final Index<R> index = getIndex();
+        if (item == null) return index.all.anyItem;
+        return index.all.get(item);
+    }
+
+    /**
+     * @param fluid - input fluid
+     * @param item  - input item
+     * @return recipes which may accept both the fluid and the item
+     */
+    public List<R> findCandidates(@Nullable Fluid fluid, @Nullable Item item) {
+        final Bucket<R> bucket = getBucket(fluid);
+        if (item == null) return bucket.anyItem;
+        return bucket.get(item);
+    }
+
+    private Bucket<R> getBucket(@Nullable Fluid fluid) {
+        final Index<R> index = getIndex();
+        if (fluid == null) return index.anyFluid;
+        final Bucket<R> bucket = index.byFluid.get(fluid);
+        return bucket != null ? bucket : index.anyFluid;
+    }
+
+    private Index<R> getIndex() {
+        final Snapshot<R> current = snapshot;
+        Index<R> index = current.index;
+        if (index == null) {
+            index = build(current.recipes);
+            current.index = index;
+        }
+        return index;
+    }
+
+    private Index<R> build(@Nonnull List<R> recipes) {
+        final List<Collection<Fluid>> fluidKeys = new ArrayList<Collection<Fluid>>(recipes.size());
+        final List<Collection<Item>> itemKeys = new ArrayList<Collection<Item>>(recipes.size());
+        final Set<Fluid> fluids = Collections.newSetFromMap(new IdentityHashMap<Fluid, Boolean>());
+        for (R recipe : recipes) {
+            final Collection<Fluid> fk = keyProvider.getFluidKeys(recipe);
+            fluidKeys.add(fk);
+            itemKeys.add(keyProvider.getItemKeys(recipe));
+            if (fk != null) fluids.addAll(fk);
+        }
+
+        final List<Integer> allIndices = new ArrayList<Integer>(recipes.size());
+        final List<Integer> anyFluidIndices = new ArrayList<Integer>();
+        final Map<Fluid, List<Integer>> fluidIndices = new IdentityHashMap<Fluid, List<Integer>>();
+        for (Fluid fluid : fluids) {
+            fluidIndices.put(fluid, new ArrayList<Integer>());
+        }
+
+        for (int i = 0; i < recipes.size(); ++i) {
+            allIndices.add(i);
+            final Collection<Fluid> fk = fluidKeys.get(i);
+            if (fk == null) {
+                anyFluidIndices.add(i);
+                for (List<Integer> indices : fluidIndices.values()) {
+                    indices.add(i);
+                }
+            } else {
+                for (Fluid fluid : new HashSet<Fluid>(fk)) {
+                    fluidIndices.get(fluid).add(i);
+                }
+            }
+        }
+
+        final Map<Fluid, Bucket<R>> newByFluid = new IdentityHashMap<Fluid, Bucket<R>>();
+        for (Map.Entry<Fluid, List<Integer>> entry : fluidIndices.entrySet()) {
+            newByFluid.put(entry.getKey(), buildBucket(recipes, entry.getValue(), itemKeys));
+        }
+
+        return new Index<R>(newByFluid, buildBucket(recipes, anyFluidIndices, itemKeys), buildBucket(recipes, allIndices, itemKeys));
+    }
+
+    private Bucket<R> buildBucket(@Nonnull List<R> recipes, @Nonnull List<Integer> indices, @Nonnull List<Collection<Item>> itemKeys) {
+        final Bucket<R> bucket = new Bucket<R>();
+        for (int i : indices) {
+            final Collection<Item> ik = itemKeys.get(i);
+            if (ik != null) {
+                for (Item item : ik) {
+                    if (!bucket.byItem.containsKey(item)) bucket.byItem.put(item, new ArrayList<R>());
+                }
+            }
+        }
+
+        // indices are in insertion order, so every list below stays in insertion order as well
+        for (int i : indices) {
+            final R recipe = recipes.get(i);
+            final Collection<Item> ik = itemKeys.get(i);
+            bucket.recipes.add(recipe);
+            if (ik == null) {
+                bucket.anyItem.add(recipe);
+                for (List<R> list : bucket.byItem.values()) {
+                    list.add(recipe);
+                }
+            } else {
+                for (Item item : new HashSet<Item>(ik)) {
+                    bucket.byItem.get(item).add(recipe);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * @param stacks - multi fluid stack
+     * @return the fluids contained in the stack, or null if they can't be determined
+     */
+    @Nullable
+    public static Collection<Fluid> fluidKeysOf(@Nullable IMultiFluidStacks stacks) {
+        if (stacks instanceof TaggedFluidStacks) {
+            return ((TaggedFluidStacks) stacks).getFluids();
+        } else if (stacks instanceof MultiFluidStacks) {
+            final List<Fluid> result = new ArrayList<Fluid>();
+            for (FluidStack stack : stacks.getFluidStacks()) {
+                if (stack != null && stack.getFluid() != null) result.add(stack.getFluid());
+            }
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * @param stack - fluid stack
+     * @return the stack's fluid, or null if it can't be determined
+     */
+    @Nullable
+    public static Collection<Fluid> fluidKeysOf(@Nullable FluidStack stack) {
+        if (stack == null || stack.getFluid() == null) return null;
+        return Collections.singletonList(stack.getFluid());
+    }
+
+    /**
+     * @param stacks - multi item stack
+     * @return the items contained in the stack, or null if they can't be determined
+     */
+    @Nullable
+    public static Collection<Item> itemKeysOf(@Nullable IMultiItemStacks stacks) {
+        if (stacks instanceof OreItemStacks) {
+            return itemsOf(((OreItemStacks) stacks).getRawItemStacks());
+        } else if (stacks instanceof MultiItemStacks) {
+            return itemsOf(stacks.getItemStacks());
+        }
+        return null;
+    }
+
+    private static Collection<Item> itemsOf(@Nonnull List<ItemStack> stacks) {
+        final List<Item> result = new ArrayList<Item>();
+        for (ItemStack stack : stacks) {
+            if (stack != null) result.add(stack.getItem());
+        }
+        return result;
+    }
+}
@@ -1,7 +1,8 @@
 package growthcraft.cellar.shared.processing.culturing;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -12,10 +13,16 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 public class CulturingRegistry {
-    private List<ICultureRecipe> recipes = new ArrayList<ICultureRecipe>();
+    private final List<ICultureRecipe> recipes = new CopyOnWriteArrayList<ICultureRecipe>();
+    // required heats of the recipes, sorted
+    private volatile float[] requiredHeats = new float[0];
 
     public void addRecipe(@Nonnull ICultureRecipe recipe) {
         recipes.add(recipe);
+        final float[] heats = Arrays.copyOf(requiredHeats, requiredHeats.length + 1);
+        heats[heats.length - 1] = recipe.getRequiredHeat();
+        Arrays.sort(heats);
+        this.requiredHeats = heats;
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding new Culturing Recipe, {%s}.", recipe);
     }
 
@@ -23,6 +30,20 @@ public class CulturingRegistry {
         addRecipe(new CultureRecipe(fluidStack, itemStack, requiredHeat, time));
     }
 
+    /**
+     * Recipes only ask whether the heat reaches their required heat, so heats of the same
+     * level find the same recipe for a fluid.
+     *
+     * @param heat - heat multiplier of the device
+     * @return the number of required heats the heat reaches
+     */
+    public int getHeatLevel(float heat) {
+        final float[] heats = requiredHeats;
+        int level = 0;
+        while (level < heats.length && heat >= heats[level]) level++;
+        return level;
+    }
+
     public ICultureRecipe findRecipe(@Nullable FluidStack fluid, float heat) {
         for (ICultureRecipe recipe : recipes) {
             if (recipe.matchesRecipe(fluid, heat)) return recipe;
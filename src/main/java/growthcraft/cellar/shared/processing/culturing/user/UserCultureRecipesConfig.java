@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 
 import growthcraft.cellar.shared.CellarRegistry;
 import growthcraft.cellar.shared.Reference;
+import growthcraft.cellar.shared.processing.culturing.CulturingRegistry;
 import growthcraft.core.shared.config.schema.FluidStackSchema;
 import growthcraft.core.shared.config.schema.ItemKeySchema;
 import growthcraft.core.shared.GrowthcraftLogger;
@@ -43,7 +44,7 @@ public class UserCultureRecipesConfig extends AbstractUserJSONConfig {
         this.recipes = gson.fromJson(reader, UserCultureRecipes.class);
     }
 
-    private void addRecipe(UserCultureRecipe recipe) {
+    private void addRecipe(CulturingRegistry registry, UserCultureRecipe recipe) {
         if (recipe == null) {
             GrowthcraftLogger.getLogger(Reference.MODID).error("Invalid recipe");
             return;
@@ -62,18 +63,30 @@ public class UserCultureRecipesConfig extends AbstractUserJSONConfig {
         final FluidStack inputFluidStack = recipe.input_fluid.asFluidStack();
 
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding user culturing recipe {%s}", recipe);
-        CellarRegistry.instance().culturing().addRecipe(inputFluidStack, recipe.output_item.asStack(), recipe.required_heat, recipe.time);
+        registry.addRecipe(inputFluidStack, recipe.output_item.asStack(), recipe.required_heat, recipe.time);
     }
 
-    @Override
-    public void postInit() {
+    private void applyRecipes(CulturingRegistry registry) {
         if (recipes != null) {
             if (recipes.data != null) {
                 GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding %d user culturing recipes.", recipes.data.size());
-                for (UserCultureRecipe recipe : recipes.data) addRecipe(recipe);
+                for (UserCultureRecipe recipe : recipes.data) addRecipe(registry, recipe);
             } else {
                 GrowthcraftLogger.getLogger(Reference.MODID).error("Recipes data is invalid!");
             }
         }
     }
+
+    @Override
+    public void postInit() {
+        applyRecipes(CellarRegistry.instance().culturing());
+    }
+
+    @Override
+    public synchronized boolean reapply() {
+        final CulturingRegistry registry = new CulturingRegistry();
+        applyRecipes(registry);
+        CellarRegistry.instance().setCulturingRegistry(registry);
+        return true;
+    }
 }
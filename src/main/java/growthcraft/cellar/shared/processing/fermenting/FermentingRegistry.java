@@ -1,20 +1,43 @@
 package growthcraft.cellar.shared.processing.fermenting;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.cellar.shared.Reference;
 import growthcraft.cellar.shared.config.GrowthcraftCellarConfig;
+import growthcraft.cellar.shared.processing.common.RecipeIndex;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.item.MultiStacksUtil;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class FermentingRegistry {
-    private List<IFermentationRecipe> recipes = new ArrayList<IFermentationRecipe>();
+    private static final RecipeIndex.IKeyProvider<IFermentationRecipe> KEY_PROVIDER = new RecipeIndex.IKeyProvider<IFermentationRecipe>() {
+        @Override
+        public Collection<Fluid> getFluidKeys(@Nonnull IFermentationRecipe recipe) {
+            if (recipe instanceof FermentationFallbackRecipe)
+                return RecipeIndex.fluidKeysOf(recipe.getInputFluidStack());
+            return null;
+        }
+
+        @Override
+        public Collection<Item> getItemKeys(@Nonnull IFermentationRecipe recipe) {
+            if (recipe instanceof FermentationRecipe)
+                return RecipeIndex.itemKeysOf(recipe.getFermentingItemStack());
+            return null;
+        }
+    };
+
+    private final List<IFermentationRecipe> recipes = new CopyOnWriteArrayList<IFermentationRecipe>();
+    private final RecipeIndex<IFermentationRecipe> recipeIndex = new RecipeIndex<IFermentationRecipe>(KEY_PROVIDER);
+    private final RecipeIndex<IFermentationRecipe> fallbackIndex = new RecipeIndex<IFermentationRecipe>(KEY_PROVIDER);
 
     private void onRecipeAdded(@Nonnull IFermentationRecipe recipe) {
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Added Fermentation recipe={%s}", recipe);
@@ -24,6 +47,11 @@ public class FermentingRegistry {
         // TODO: Warn if multiple fallback recipes exist for same input fluid
 
         recipes.add(recipe);
+        if (isFallbackRecipe(recipe)) {
+            fallbackIndex.add(recipe);
+        } else {
+            recipeIndex.add(recipe);
+        }
         onRecipeAdded(recipe);
     }
 
@@ -43,16 +71,12 @@ public class FermentingRegistry {
         // TODO: fermenter == null can be a MC 1.7.10 convention for empty stacks. Check if sound for current MC version.
 
         if (booze == null || fermenter == null) return null;
-        for (IFermentationRecipe recipe : recipes) {
-            if (isFallbackRecipe(recipe))
-                continue;
+        for (IFermentationRecipe recipe : recipeIndex.findCandidates(booze.getFluid(), fermenter.getItem())) {
             if (recipe.matchesRecipe(booze, fermenter)) return recipe;
         }
 
         if (GrowthcraftCellarConfig.allowFallbackRecipes || forceAllowFallback) {
-            for (IFermentationRecipe recipe : recipes) {
-                if (!isFallbackRecipe(recipe))
-                    continue;
+            for (IFermentationRecipe recipe : fallbackIndex.findCandidates(booze.getFluid())) {
                 if (recipe.matchesIngredient(booze)) return recipe;
             }
         }
@@ -100,7 +124,11 @@ public class FermentingRegistry {
 
     public boolean canFerment(@Nullable FluidStack fluid) {
         if (fluid != null) {
-            for (IFermentationRecipe recipe : recipes) {
+            for (IFermentationRecipe recipe : recipeIndex.findCandidates(fluid.getFluid())) {
+                if (recipe.matchesIngredient(fluid))
+                    return true;
+            }
+            for (IFermentationRecipe recipe : fallbackIndex.findCandidates(fluid.getFluid())) {
                 if (recipe.matchesIngredient(fluid))
                     return true;
             }
@@ -113,16 +141,22 @@ public class FermentingRegistry {
 
         if (itemstack == null) return false;
 
-        for (IFermentationRecipe recipe : recipes) {
-            if (isFallbackRecipe(recipe))    // Ignore default recipes
-                continue;
-
+        // Fallback recipes are kept in their own index and are ignored here
+        for (IFermentationRecipe recipe : recipeIndex.findCandidates(itemstack.getItem())) {
             if (recipe.isItemIngredient(itemstack))
                 return true;
         }
         return false;
     }
 
+    /**
+     * Drops the lookup indices, they are rebuilt on the next query.
+     */
+    public void invalidateIndex() {
+        recipeIndex.invalidate();
+        fallbackIndex.invalidate();
+    }
+
     public boolean isFallbackRecipe(IFermentationRecipe recipe) {
         return (recipe instanceof FermentationFallbackRecipe) && !(recipe instanceof FermentationRecipe);
     }
@@ -6,6 +6,7 @@ import javax.annotation.Nonnull;
 
 import growthcraft.cellar.shared.CellarRegistry;
 import growthcraft.cellar.shared.Reference;
+import growthcraft.cellar.shared.processing.fermenting.FermentingRegistry;
 import growthcraft.core.shared.definition.IMultiFluidStacks;
 import growthcraft.core.shared.definition.IMultiItemStacks;
 import growthcraft.core.shared.config.schema.FluidStackSchema;
@@ -70,7 +71,7 @@ public class UserFermentingRecipesConfig extends AbstractUserJSONConfig {
         this.recipes = gson.fromJson(reader, UserFermentingRecipes.class);
     }
 
-    private void addRecipe(UserFermentingRecipe recipe) {
+    private void addRecipe(FermentingRegistry registry, UserFermentingRecipe recipe) {
         if (recipe == null) {
             GrowthcraftLogger.getLogger(Reference.MODID).error("Recipe is invalid!");
             return;
@@ -96,7 +97,7 @@ public class UserFermentingRecipesConfig extends AbstractUserJSONConfig {
         if (recipe.item != null) {
             for (IMultiItemStacks item : recipe.item.getMultiItemStacks()) {
                 for (IMultiFluidStacks inputFluid : recipe.input_fluid.getMultiFluidStacks()) {
-                    CellarRegistry.instance().fermenting().addRecipe(
+                    registry.addRecipe(
                             recipe.output_fluid.asFluidStack(),
                             inputFluid,
                             item,
@@ -106,7 +107,7 @@ public class UserFermentingRecipesConfig extends AbstractUserJSONConfig {
             }
         } else {
             for (IMultiFluidStacks inputFluid : recipe.input_fluid.getMultiFluidStacks()) {
-                CellarRegistry.instance().fermenting().addFallbackRecipe(
+                registry.addFallbackRecipe(
                         recipe.output_fluid.asFluidStack(),
                         inputFluid,
                         recipe.time
@@ -115,15 +116,27 @@ public class UserFermentingRecipesConfig extends AbstractUserJSONConfig {
         }
     }
 
-    @Override
-    public void postInit() {
+    private void applyRecipes(FermentingRegistry registry) {
         if (recipes != null) {
             if (recipes.data != null) {
                 GrowthcraftLogger.getLogger(Reference.MODID).debug("Registering %d fermenting recipes.", recipes.data.size());
-                for (UserFermentingRecipe recipe : recipes.data) addRecipe(recipe);
+                for (UserFermentingRecipe recipe : recipes.data) addRecipe(registry, recipe);
             } else {
                 GrowthcraftLogger.getLogger(Reference.MODID).error("Fermenting Recipes data is invalid!");
             }
         }
     }
+
+    @Override
+    public void postInit() {
+        applyRecipes(CellarRegistry.instance().fermenting());
+    }
+
+    @Override
+    public synchronized boolean reapply() {
+        final FermentingRegistry registry = new FermentingRegistry();
+        applyRecipes(registry);
+        CellarRegistry.instance().setFermentingRegistry(registry);
+        return true;
+    }
 }
@@ -1,12 +1,14 @@
 package growthcraft.cellar.shared.processing.heatsource;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import javax.annotation.Nonnull;
 
 import growthcraft.cellar.shared.Reference;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.item.ItemKey;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 
@@ -22,14 +24,31 @@ public class HeatSourceRegistry {
     public static final float DEFAULT_HEAT = 1.0f;
     public static final float NO_HEAT = 0.0f;
 
-    private HeatSourceTree heatSources = new HeatSourceTree();
+    // Marks states of registered blocks which aren't heat sources themselves
+    private static final IHeatSourceBlock NOT_A_HEAT_SOURCE = (world, pos) -> NO_HEAT;
+
+    // HeatMaps are never changed once published, adding to one replaces it
+    private final CopyOnWriteMap<Block, HeatMap> heatSources = new CopyOnWriteMap<Block, HeatMap>(HeatSourceTree::new);
+    // Every valid state of the registered blocks, resolved once when the block is added
+    private final CopyOnWriteMap<IBlockState, IHeatSourceBlock> stateLookup = new CopyOnWriteMap<IBlockState, IHeatSourceBlock>(IdentityHashMap::new);
+
+    private void indexStates(@Nonnull Block block) {
+        stateLookup.update(lookup -> {
+            for (IBlockState state : block.getBlockState().getValidStates()) {
+                final IHeatSourceBlock source = getHeatSource(block, block.getMetaFromState(state));
+                lookup.put(state, source != null ? source : NOT_A_HEAT_SOURCE);
+            }
+        });
+    }
 
     public void addHeatSource(@Nonnull Block block, int meta, IHeatSourceBlock heat) {
-        if (!heatSources.containsKey(block)) {
-            heatSources.put(block, new HeatMap());
-        }
-        final HeatMap map = heatSources.get(block);
-        map.put(meta, heat);
+        heatSources.update(tree -> {
+            final HeatMap map = new HeatMap();
+            if (tree.containsKey(block)) map.putAll(tree.get(block));
+            map.put(meta, heat);
+            tree.put(block, map);
+        });
+        indexStates(block);
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Added new HeatSource block=%s", block);
     }
 
@@ -50,9 +69,13 @@ public class HeatSourceRegistry {
     }
 
     public IHeatSourceBlock getHeatSource(IBlockState state) {
-        Block block = state.getBlock();
-        int meta = block.getMetaFromState(state);
-        return getHeatSource(block, meta);
+        final IHeatSourceBlock source = stateLookup.get(state);
+        if (source != null) return source == NOT_A_HEAT_SOURCE ? null : source;
+
+        // states which aren't part of the block's container, such as extended states
+        final Block block = state.getBlock();
+        if (!heatSources.containsKey(block)) return null;
+        return getHeatSource(block, block.getMetaFromState(state));
     }
 
     public IHeatSourceBlock getHeatSource(Block block, int meta) {
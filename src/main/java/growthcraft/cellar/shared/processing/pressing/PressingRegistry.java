@@ -1,23 +1,43 @@
 package growthcraft.cellar.shared.processing.pressing;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.cellar.shared.Reference;
+import growthcraft.cellar.shared.processing.common.RecipeIndex;
 import growthcraft.cellar.shared.processing.common.Residue;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.item.MultiStacksUtil;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class PressingRegistry {
-    private List<IPressingRecipe> recipes = new ArrayList<IPressingRecipe>();
+    private static final RecipeIndex.IKeyProvider<IPressingRecipe> KEY_PROVIDER = new RecipeIndex.IKeyProvider<IPressingRecipe>() {
+        @Override
+        public Collection<Fluid> getFluidKeys(@Nonnull IPressingRecipe recipe) {
+            return null;
+        }
+
+        @Override
+        public Collection<Item> getItemKeys(@Nonnull IPressingRecipe recipe) {
+            if (recipe instanceof PressingRecipe)
+                return RecipeIndex.itemKeysOf(recipe.getInput());
+            return null;
+        }
+    };
+
+    private final List<IPressingRecipe> recipes = new CopyOnWriteArrayList<IPressingRecipe>();
+    private final RecipeIndex<IPressingRecipe> recipeIndex = new RecipeIndex<IPressingRecipe>(KEY_PROVIDER);
 
     public void addRecipe(@Nonnull IPressingRecipe recipe) {
         recipes.add(recipe);
+        recipeIndex.add(recipe);
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Added new Pressing Recipe recipe={%s}", recipe);
     }
 
@@ -28,12 +48,19 @@ public class PressingRegistry {
     public IPressingRecipe getPressingRecipe(ItemStack itemstack) {
         if (itemstack == null) return null;
 
-        for (IPressingRecipe recipe : recipes) {
+        for (IPressingRecipe recipe : recipeIndex.findCandidates(itemstack.getItem())) {
             if (recipe.matchesRecipe(itemstack)) return recipe;
         }
         return null;
     }
 
+    /**
+     * Drops the lookup index, it is rebuilt on the next query.
+     */
+    public void invalidateIndex() {
+        recipeIndex.invalidate();
+    }
+
     public boolean hasPressingRecipe(ItemStack itemstack) {
         return getPressingRecipe(itemstack) != null;
     }
@@ -6,6 +6,7 @@ import growthcraft.cellar.shared.CellarRegistry;
 import growthcraft.cellar.shared.Reference;
 import growthcraft.cellar.shared.processing.common.Residue;
 import growthcraft.cellar.shared.config.schema.ResidueSchema;
+import growthcraft.cellar.shared.processing.pressing.PressingRegistry;
 import growthcraft.core.shared.definition.IMultiItemStacks;
 import growthcraft.core.shared.config.schema.FluidStackSchema;
 import growthcraft.core.shared.config.schema.ItemKeySchema;
@@ -51,7 +52,7 @@ public class UserPressingRecipesConfig extends AbstractUserJSONConfig {
         this.recipes = gson.fromJson(reader, UserPressingRecipes.class);
     }
 
-    protected void addPressingRecipe(UserPressingRecipe recipe) {
+    protected void addPressingRecipe(PressingRegistry registry, UserPressingRecipe recipe) {
         if (recipe == null) {
             GrowthcraftLogger.getLogger(Reference.MODID).error("NULL RECIPE");
             return;
@@ -84,19 +85,31 @@ public class UserPressingRecipesConfig extends AbstractUserJSONConfig {
 
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding pressing recipe {%s}", recipe);
         for (IMultiItemStacks item : recipe.item.getMultiItemStacks()) {
-            CellarRegistry.instance().pressing().addRecipe(item, fluidStack, recipe.time, residue);
+            registry.addRecipe(item, fluidStack, recipe.time, residue);
         }
     }
 
-    @Override
-    public void postInit() {
+    private void applyRecipes(PressingRegistry registry) {
         if (recipes != null) {
             if (recipes.data != null) {
                 GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding %d user pressing recipes.", recipes.data.size());
-                for (UserPressingRecipe recipe : recipes.data) addPressingRecipe(recipe);
+                for (UserPressingRecipe recipe : recipes.data) addPressingRecipe(registry, recipe);
             } else {
                 GrowthcraftLogger.getLogger(Reference.MODID).error("Recipe data is invalid!");
             }
         }
     }
+
+    @Override
+    public void postInit() {
+        applyRecipes(CellarRegistry.instance().pressing());
+    }
+
+    @Override
+    public synchronized boolean reapply() {
+        final PressingRegistry registry = new PressingRegistry();
+        applyRecipes(registry);
+        CellarRegistry.instance().setPressingRegistry(registry);
+        return true;
+    }
 }
\ No newline at end of file
@@ -1,32 +1,40 @@
 package growthcraft.cellar.shared.processing.yeast;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import growthcraft.cellar.shared.Reference;
-import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.item.ItemKey;
 import growthcraft.core.shared.item.WeightedItemStack;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.biome.Biome;
 import net.minecraftforge.common.BiomeDictionary;
 
 public class YeastRegistry {
-    private Set<ItemKey> yeastList = new HashSet<ItemKey>();
-    private Map<BiomeDictionary.Type, Set<WeightedItemStack>> biomeTypeToYeast = new HashMap<BiomeDictionary.Type, Set<WeightedItemStack>>();
-    private Map<String, Set<WeightedItemStack>> biomeNameToYeast = new HashMap<String, Set<WeightedItemStack>>();
-    private Map<ItemKey, Set<BiomeDictionary.Type>> yeastToBiomeType = new HashMap<ItemKey, Set<BiomeDictionary.Type>>();
-    private Map<ItemKey, Set<String>> yeastToBiomeName = new HashMap<ItemKey, Set<String>>();
+    private final Set<ItemKey> yeastList = ConcurrentHashMap.newKeySet();
+    // the sets are never changed once published, adding to one replaces it
+    private final CopyOnWriteMap<BiomeDictionary.Type, Set<WeightedItemStack>> biomeTypeToYeast = new CopyOnWriteMap<BiomeDictionary.Type, Set<WeightedItemStack>>();
+    private final CopyOnWriteMap<String, Set<WeightedItemStack>> biomeNameToYeast = new CopyOnWriteMap<String, Set<WeightedItemStack>>();
+    private final CopyOnWriteMap<ItemKey, Set<BiomeDictionary.Type>> yeastToBiomeType = new CopyOnWriteMap<ItemKey, Set<BiomeDictionary.Type>>();
+    private final CopyOnWriteMap<ItemKey, Set<String>> yeastToBiomeName = new CopyOnWriteMap<ItemKey, Set<String>>();
 
     private ItemKey stackToKey(@Nonnull ItemStack stack) {
         return new ItemKey(stack);
     }
 
+    private static <K, E> void addToSet(@Nonnull Map<K, Set<E>> map, @Nonnull K key, @Nonnull E element) {
+        final Set<E> old = map.get(key);
+        final Set<E> set = old != null ? new HashSet<E>(old) : new HashSet<E>();
+        set.add(element);
+        map.put(key, Collections.unmodifiableSet(set));
+    }
+
     public void addYeast(@Nonnull ItemStack yeast) {
         yeastList.add(stackToKey(yeast));
     }
@@ -39,32 +47,16 @@ public class YeastRegistry {
 
     public void addYeastToBiomeType(@Nonnull ItemStack yeast, int weight, @Nonnull BiomeDictionary.Type type) {
         addYeast(yeast);
-        if (!biomeTypeToYeast.containsKey(type)) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing biome type to yeast set for %s", type);
-            biomeTypeToYeast.put(type, new HashSet<WeightedItemStack>());
-        }
         final ItemKey yeastKey = stackToKey(yeast);
-        if (!yeastToBiomeType.containsKey(yeastKey)) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing yeast to biome type set for %s", yeast);
-            yeastToBiomeType.put(yeastKey, new HashSet<BiomeDictionary.Type>());
-        }
-        biomeTypeToYeast.get(type).add(new WeightedItemStack(weight, yeast));
-        yeastToBiomeType.get(yeastKey).add(type);
+        biomeTypeToYeast.update(m -> addToSet(m, type, new WeightedItemStack(weight, yeast)));
+        yeastToBiomeType.update(m -> addToSet(m, yeastKey, type));
     }
 
     public void addYeastToBiomeByName(@Nonnull ItemStack yeast, int weight, @Nonnull String name) {
         addYeast(yeast);
         final ItemKey yeastKey = stackToKey(yeast);
-        if (!yeastToBiomeName.containsKey(yeastKey)) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing yeast to biome name set for %s", yeast);
-            yeastToBiomeName.put(yeastKey, new HashSet<String>());
-        }
-        yeastToBiomeName.get(yeastKey).add(name);
-        if (!biomeNameToYeast.containsKey(name)) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing biome name to yeast set for %s", name);
-            biomeNameToYeast.put(name, new HashSet<WeightedItemStack>());
-        }
-        biomeNameToYeast.get(name).add(new WeightedItemStack(weight, yeast));
+        yeastToBiomeName.update(m -> addToSet(m, yeastKey, name));
+        biomeNameToYeast.update(m -> addToSet(m, name, new WeightedItemStack(weight, yeast)));
     }
 
     public Set<WeightedItemStack> getYeastListForBiomeType(@Nonnull BiomeDictionary.Type type) {
@@ -7,21 +7,38 @@ import growthcraft.core.shared.compat.forestry.InitForestry;
 import growthcraft.core.shared.compat.rustic.InitRustic;
 import growthcraft.core.common.CommonProxy;
 import growthcraft.core.common.Init;
+import growthcraft.core.common.command.CommandGrowthcraft;
 import growthcraft.core.common.creativetabs.TabGrowthcraft;
 import growthcraft.core.shared.config.GrowthcraftCoreConfig;
+import growthcraft.core.shared.config.UserConfigReloader;
+import growthcraft.core.shared.fluids.InternalFluidIDHandler;
+import growthcraft.core.shared.item.OreIdCache;
 import growthcraft.core.shared.item.recipes.ShapelessItemComparableRecipe;
 import growthcraft.core.shared.item.recipes.ShapelessMultiRecipe;
+import growthcraft.core.shared.network.GrowthcraftNetwork;
+import growthcraft.core.shared.block.CropEnvironment;
+import growthcraft.core.shared.block.PaddyHydration;
+import growthcraft.core.shared.tileentity.TileUpdateCoalescer;
+import growthcraft.core.shared.tileentity.TileSleepManager;
+import growthcraft.core.shared.tileentity.TileWakeScheduler;
+import growthcraft.core.shared.tileentity.component.HeatField;
+import growthcraft.core.shared.worldgen.WorldGenScheduler;
+import java.io.File;
+
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLConstructionEvent;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppingEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -47,12 +64,22 @@ public class GrowthcraftCore {
     public void construct(FMLConstructionEvent event) {
         GrowthcraftCoreApis.tabGrowthcraft = new TabGrowthcraft();
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.register(TileUpdateCoalescer.instance());
+        MinecraftForge.EVENT_BUS.register(TileWakeScheduler.instance());
+        MinecraftForge.EVENT_BUS.register(TileSleepManager.instance());
+        MinecraftForge.EVENT_BUS.register(HeatField.instance());
+        MinecraftForge.EVENT_BUS.register(PaddyHydration.instance());
+        MinecraftForge.EVENT_BUS.register(CropEnvironment.instance());
+        MinecraftForge.EVENT_BUS.register(InternalFluidIDHandler.instance());
+        MinecraftForge.EVENT_BUS.register(OreIdCache.instance());
+        MinecraftForge.EVENT_BUS.register(WorldGenScheduler.instance());
     }
 
     @Mod.EventHandler
     @SuppressWarnings("deprecation")
     public void preInit(FMLPreInitializationEvent event) {
         GrowthcraftCoreConfig.preInit();
+        GrowthcraftNetwork.init();
 
         Init.preInitBlocks();
         Init.preInitItems();
@@ -102,6 +129,18 @@ public class GrowthcraftCore {
             InitRustic.registerBlockOres();
     }
 
+    @Mod.EventHandler
+    public void serverStarting(FMLServerStartingEvent event) {
+        event.registerServerCommand(new CommandGrowthcraft());
+        if (GrowthcraftCoreConfig.watchUserConfigs)
+            UserConfigReloader.instance().startWatching(new File(Loader.instance().getConfigDir(), "growthcraft"));
+    }
+
+    @Mod.EventHandler
+    public void serverStopping(FMLServerStoppingEvent event) {
+        UserConfigReloader.instance().stopWatching();
+    }
+
     @SideOnly(Side.CLIENT)
     @SubscribeEvent
     public void registerModels(ModelRegistryEvent event) {
@@ -4,6 +4,7 @@ import growthcraft.core.common.worldgen.BlockSaltGeneration;
 import growthcraft.core.shared.compat.theoneprobe.TheOneProbeCompat;
 import growthcraft.core.shared.compat.theoneprobe.TheOneProbeHandler;
 import growthcraft.core.shared.config.GrowthcraftCoreConfig;
+import growthcraft.core.shared.worldgen.WorldGenScheduler;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 
 public class CommonProxy {
@@ -14,8 +15,9 @@ public class CommonProxy {
     }
 
     public void init() {
+        GameRegistry.registerWorldGenerator(WorldGenScheduler.instance(), 0);
         if (GrowthcraftCoreConfig.blockSaltOreWorldGen) {
-            GameRegistry.registerWorldGenerator(new BlockSaltGeneration(), 0);
+            WorldGenScheduler.instance().addFeature(new BlockSaltGeneration());
         }
     }
 
@@ -5,10 +5,12 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
+import com.google.common.collect.ImmutableList;
+
 import growthcraft.core.shared.block.IBlockRope;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
-import net.minecraft.block.properties.PropertyBool;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -18,26 +20,53 @@ import net.minecraft.world.World;
 
 public abstract class BlockRopeBase extends Block implements IBlockRope {
 
+    /**
+     * Collision boxes of an actual state and their union.
+     */
+    static class Shape {
+        final List<AxisAlignedBB> boxes;
+        final AxisAlignedBB bounds;
+
+        Shape(List<AxisAlignedBB> pBoxes) {
+            this.boxes = ImmutableList.copyOf(pBoxes);
+            AxisAlignedBB union = pBoxes.isEmpty() ? FULL_BLOCK_AABB : pBoxes.get(0);
+            for (int i = 1; i < pBoxes.size(); i++)
+                union = union.union(pBoxes.get(i));
+            this.bounds = union;
+        }
+    }
+
+    // built from all states on first use, read only afterwards
+    private volatile Reference2ObjectOpenHashMap<IBlockState, Shape> shapes;
+
     public BlockRopeBase(Material materialIn) {
         super(materialIn);
     }
 
+    private Shape createShape(IBlockState actualState) {
+        final List<AxisAlignedBB> boxes = new ArrayList<>(6);
+        addShapeBoxes(actualState, boxes);
+        return new Shape(boxes);
+    }
+
+    private Shape getShape(IBlockState actualState) {
+        Reference2ObjectOpenHashMap<IBlockState, Shape> table = shapes;
+        if (table == null) {
+            table = new Reference2ObjectOpenHashMap<>();
+            for (IBlockState state : blockState.getValidStates()) {
+                table.put(state, createShape(state));
+            }
+            this.shapes = table;
+        }
+        final Shape shape = table.get(actualState);
+        // extended states aren't in the table
+        return shape != null ? shape : createShape(actualState);
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public AxisAlignedBB getBoundingBox(IBlockState state, IBlockAccess source, BlockPos pos) {
-        ArrayList<AxisAlignedBB> collidingBoxes = new ArrayList<>(5);
-
-        state = state.getActualState(source, pos);
-        populateCollisionBoxes(state, pos, FULL_BLOCK_AABB.offset(pos), collidingBoxes);
-        if (collidingBoxes.isEmpty())
-            return FULL_BLOCK_AABB;
-
-        AxisAlignedBB box = collidingBoxes.get(0);    // NOTE: Assuming that collidingBoxes is non empty!
-        for (int i = 1; i < collidingBoxes.size(); i++)
-            box = box.union(collidingBoxes.get(i));
-        box = box.offset(new BlockPos(-pos.getX(), -pos.getY(), -pos.getZ()));
-
-        return box;
+        return getShape(state.getActualState(source, pos)).bounds;
     }
 
     @SuppressWarnings("deprecation")
@@ -46,10 +75,17 @@ public abstract class BlockRopeBase extends Block implements IBlockRope {
         if (!isActualState)
             state = state.getActualState(worldIn, pos);
 
-        populateCollisionBoxes(state, pos, entityBox, collidingBoxes);
+        final List<AxisAlignedBB> boxes = getShape(state).boxes;
+        for (int i = 0; i < boxes.size(); i++)
+            addCollisionBoxToList(pos, entityBox, collidingBoxes, boxes.get(i));
     }
 
-    protected abstract void populateCollisionBoxes(IBlockState actualState, BlockPos pos, AxisAlignedBB entityBox,
-                                                   List<AxisAlignedBB> collidingBoxes);
+    /**
+     * Adds the collision boxes of the state, relative to the block. Asked once per state.
+     *
+     * @param actualState - actual state of the block
+     * @param boxes       - list to add to
+     */
+    protected abstract void addShapeBoxes(IBlockState actualState, List<AxisAlignedBB> boxes);
 
 }
@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.Random;
 
 import growthcraft.core.shared.Reference;
-import growthcraft.core.shared.block.IBlockRope;
+import growthcraft.core.shared.block.RopeConnections;
 import growthcraft.core.shared.init.GrowthcraftCoreItems;
 import net.minecraft.block.Block;
 import net.minecraft.block.SoundType;
@@ -39,6 +39,9 @@ public class BlockRopeFence extends BlockRopeBase {
     public static final PropertyBool UP = PropertyBool.create("up");
     public static final PropertyBool DOWN = PropertyBool.create("down");
 
+    // actual state by rope connection mask
+    private final IBlockState[] connectedStates = new IBlockState[RopeConnections.ALL + 1];
+
     public BlockRopeFence(String unlocalizedName) {
         super(Material.CARPET);
         this.setUnlocalizedName(unlocalizedName);
@@ -52,24 +55,36 @@ public class BlockRopeFence extends BlockRopeBase {
                 .withProperty(WEST, Boolean.valueOf(false))
                 .withProperty(UP, Boolean.valueOf(false))
                 .withProperty(DOWN, Boolean.valueOf(false)));
+
+        for (int mask = 0; mask <= RopeConnections.ALL; mask++) {
+            // a rope without any connections is drawn connected on all sides
+            final int sides = mask == 0 ? RopeConnections.ALL : mask;
+            connectedStates[mask] = this.getDefaultState()
+                    .withProperty(NORTH, (sides & RopeConnections.bit(EnumFacing.NORTH)) != 0)
+                    .withProperty(EAST, (sides & RopeConnections.bit(EnumFacing.EAST)) != 0)
+                    .withProperty(SOUTH, (sides & RopeConnections.bit(EnumFacing.SOUTH)) != 0)
+                    .withProperty(WEST, (sides & RopeConnections.bit(EnumFacing.WEST)) != 0)
+                    .withProperty(UP, (sides & RopeConnections.bit(EnumFacing.UP)) != 0)
+                    .withProperty(DOWN, (sides & RopeConnections.bit(EnumFacing.DOWN)) != 0);
+        }
     }
 
     @Override
-    protected void populateCollisionBoxes(IBlockState actualState, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> collidingBoxes) {
-        addCollisionBoxToList(pos, entityBox, collidingBoxes, KNOT_BOUNDING_BOX);
+    protected void addShapeBoxes(IBlockState actualState, List<AxisAlignedBB> boxes) {
+        boxes.add(KNOT_BOUNDING_BOX);
 
         if (actualState.getValue(NORTH))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, NORTH_BOUNDING_BOX);
+            boxes.add(NORTH_BOUNDING_BOX);
         if (actualState.getValue(EAST))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, EAST_BOUNDING_BOX);
+            boxes.add(EAST_BOUNDING_BOX);
         if (actualState.getValue(SOUTH))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, SOUTH_BOUNDING_BOX);
+            boxes.add(SOUTH_BOUNDING_BOX);
         if (actualState.getValue(WEST))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, WEST_BOUNDING_BOX);
+            boxes.add(WEST_BOUNDING_BOX);
         if (actualState.getValue(UP))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, UP_BOUNDING_BOX);
+            boxes.add(UP_BOUNDING_BOX);
         if (actualState.getValue(DOWN))
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, DOWN_BOUNDING_BOX);
+            boxes.add(DOWN_BOUNDING_BOX);
     }
 
     @Override
@@ -118,8 +133,7 @@ public class BlockRopeFence extends BlockRopeBase {
     public boolean canConnectRopeTo(IBlockAccess world, BlockPos pos, EnumFacing facing) {
         Block block = world.getBlockState(pos.offset(facing)).getBlock();
 //        return block instanceof BlockRopeFence || block instanceof BlockRopeKnot || block instanceof BlockGrapeVineBush || BlockHopsBush.class.isInstance(block);
-        return block instanceof IBlockRope;
-
+        return RopeConnections.isRope(block);
     }
 
     @Override
@@ -131,28 +145,7 @@ public class BlockRopeFence extends BlockRopeBase {
     @SuppressWarnings("deprecation")
     @Override
     public IBlockState getActualState(IBlockState state, IBlockAccess worldIn, BlockPos pos) {
-        boolean vN = canConnectRopeTo(worldIn, pos, EnumFacing.NORTH);
-        boolean vE = canConnectRopeTo(worldIn, pos, EnumFacing.EAST);
-        boolean vS = canConnectRopeTo(worldIn, pos, EnumFacing.SOUTH);
-        boolean vW = canConnectRopeTo(worldIn, pos, EnumFacing.WEST);
-        boolean vU = canConnectRopeTo(worldIn, pos, EnumFacing.UP);
-        boolean vD = canConnectRopeTo(worldIn, pos, EnumFacing.DOWN);
-
-        if (!vN && !vE && !vS && !vW && !vU && !vD) {
-            vN = true;
-            vE = true;
-            vS = true;
-            vW = true;
-            vU = true;
-            vD = true;
-        }
-
-        return state.withProperty(NORTH, vN)
-                .withProperty(EAST, vE)
-                .withProperty(SOUTH, vS)
-                .withProperty(WEST, vW)
-                .withProperty(UP, vU)
-                .withProperty(DOWN, vD);
+        return connectedStates[RopeConnections.getRopeMask(worldIn, pos)];
     }
 
     @Override
@@ -7,10 +7,9 @@ import javax.annotation.Nullable;
 
 import growthcraft.core.shared.Reference;
 import growthcraft.core.shared.block.FenceUtils;
-import growthcraft.core.shared.block.IBlockRope;
+import growthcraft.core.shared.block.RopeConnections;
 import growthcraft.core.shared.init.GrowthcraftCoreItems;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockFence;
 import net.minecraft.block.SoundType;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.properties.PropertyBool;
@@ -54,6 +53,11 @@ public class BlockRopeKnot extends BlockRopeBase {
     public static final PropertyBool UP = PropertyBool.create("up");
     public static final PropertyBool DOWN = PropertyBool.create("down");
 
+    private static final EnumFacing[] HORIZONTALS = {EnumFacing.NORTH, EnumFacing.EAST, EnumFacing.SOUTH, EnumFacing.WEST};
+
+    // actual state by connection values, a base 3 digit per horizontal side, then up and down
+    private final IBlockState[] connectedStates = new IBlockState[81 * 4];
+
     public BlockRopeKnot(String unlocalizedName) {
         super(Material.WOOD);
         this.setUnlocalizedName(unlocalizedName);
@@ -73,6 +77,16 @@ public class BlockRopeKnot extends BlockRopeBase {
                 .withProperty(DOWN, Boolean.valueOf(false)));
 
         this.useNeighborBrightness = true;
+
+        for (int i = 0; i < connectedStates.length; i++) {
+            connectedStates[i] = this.getDefaultState()
+                    .withProperty(NORTH, i % 3)
+                    .withProperty(EAST, i / 3 % 3)
+                    .withProperty(SOUTH, i / 9 % 3)
+                    .withProperty(WEST, i / 27 % 3)
+                    .withProperty(UP, (i / 81 & 1) != 0)
+                    .withProperty(DOWN, (i / 81 & 2) != 0);
+        }
     }
 
     @SuppressWarnings("deprecation")
@@ -96,9 +110,9 @@ public class BlockRopeKnot extends BlockRopeBase {
 
 
     @Override
-    protected void populateCollisionBoxes(IBlockState actualState, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> collidingBoxes) {
-        addCollisionBoxToList(pos, entityBox, collidingBoxes, FENCE_BOUNDING_BOX);
-        addCollisionBoxToList(pos, entityBox, collidingBoxes, KNOT_BOUNDING_BOX);
+    protected void addShapeBoxes(IBlockState actualState, List<AxisAlignedBB> boxes) {
+        boxes.add(FENCE_BOUNDING_BOX);
+        boxes.add(KNOT_BOUNDING_BOX);
 
         int vN = actualState.getValue(NORTH);
         int vE = actualState.getValue(EAST);
@@ -106,16 +120,16 @@ public class BlockRopeKnot extends BlockRopeBase {
         int vW = actualState.getValue(WEST);
 
         if (vN != 0)
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, (vN == 1) ? NORTH_BOUNDING_BOX : FENCE_NORTH_BOUNDING_BOX);
+            boxes.add((vN == 1) ? NORTH_BOUNDING_BOX : FENCE_NORTH_BOUNDING_BOX);
 
         if (vE != 0)
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, (vE == 1) ? EAST_BOUNDING_BOX : FENCE_EAST_BOUNDING_BOX);
+            boxes.add((vE == 1) ? EAST_BOUNDING_BOX : FENCE_EAST_BOUNDING_BOX);
 
         if (vS != 0)
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, (vS == 1) ? SOUTH_BOUNDING_BOX : FENCE_SOUTH_BOUNDING_BOX);
+            boxes.add((vS == 1) ? SOUTH_BOUNDING_BOX : FENCE_SOUTH_BOUNDING_BOX);
 
         if (vW != 0)
-            addCollisionBoxToList(pos, entityBox, collidingBoxes, (vW == 1) ? WEST_BOUNDING_BOX : FENCE_WEST_BOUNDING_BOX);
+            boxes.add((vW == 1) ? WEST_BOUNDING_BOX : FENCE_WEST_BOUNDING_BOX);
 
         // Up and down not necessary, because they are covered by FENCE_BOUNDING_BOX
     }
@@ -155,7 +169,7 @@ public class BlockRopeKnot extends BlockRopeBase {
     public boolean canConnectRopeTo(IBlockAccess world, BlockPos pos, EnumFacing facing) {
         Block block = world.getBlockState(pos.offset(facing)).getBlock();
         // return block instanceof BlockRopeFence || block instanceof BlockRopeKnot || block instanceof BlockGrapeVineBush || block instanceof BlockHopsBush;
-        return block instanceof IBlockRope;
+        return RopeConnections.isRope(block);
     }
 
     @Override
@@ -167,22 +181,21 @@ public class BlockRopeKnot extends BlockRopeBase {
     @SuppressWarnings("deprecation")
     @Override
     public IBlockState getActualState(IBlockState state, IBlockAccess worldIn, BlockPos pos) {
-        int vN = getConnectionValue(worldIn, pos, EnumFacing.NORTH);
-        int vE = getConnectionValue(worldIn, pos, EnumFacing.EAST);
-        int vS = getConnectionValue(worldIn, pos, EnumFacing.SOUTH);
-        int vW = getConnectionValue(worldIn, pos, EnumFacing.WEST);
-
-        return state.withProperty(NORTH, vN)
-                .withProperty(EAST, vE)
-                .withProperty(SOUTH, vS)
-                .withProperty(WEST, vW)
-                .withProperty(UP, canConnectRopeTo(worldIn, pos, EnumFacing.UP))
-                .withProperty(DOWN, canConnectRopeTo(worldIn, pos, EnumFacing.DOWN));
-    }
-
-    private int getConnectionValue(IBlockAccess worldIn, BlockPos pos, EnumFacing facing) {
-        if (canConnectRopeTo(worldIn, pos, facing))
+        final int mask = RopeConnections.getRopeMask(worldIn, pos);
+        int index = 0;
+        for (int i = HORIZONTALS.length - 1; i >= 0; i--)
+            index = index * 3 + getConnectionValue(worldIn, pos, HORIZONTALS[i], mask);
+        if ((mask & RopeConnections.bit(EnumFacing.UP)) != 0)
+            index += 81;
+        if ((mask & RopeConnections.bit(EnumFacing.DOWN)) != 0)
+            index += 162;
+        return connectedStates[index];
+    }
+
+    private int getConnectionValue(IBlockAccess worldIn, BlockPos pos, EnumFacing facing, int ropeMask) {
+        if ((ropeMask & RopeConnections.bit(facing)) != 0)
             return 1;
+        // fences connect depending on the neighbour's shape, only asked for sides without a rope
         else if (FenceUtils.canFenceConnectTo(worldIn, pos, facing))
             return 2;
         else
@@ -0,0 +1,51 @@
+package growthcraft.core.common.command;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import growthcraft.core.shared.config.UserConfigReloader;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+
+/**
+ * /growthcraft reload - reloads the recipe configs in config/growthcraft.
+ */
+public class CommandGrowthcraft extends CommandBase {
+    @Override
+    public String getName() {
+        return "growthcraft";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "commands.growthcraft.usage";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 2;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        if (args.length == 1 && "reload".equals(args[0])) {
+            sender.sendMessage(new TextComponentTranslation("commands.growthcraft.reload.started"));
+            UserConfigReloader.instance().reloadAll(sender);
+            return;
+        }
+        throw new WrongUsageException("commands.growthcraft.usage");
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) return getListOfStringsMatchingLastWord(args, "reload");
+        return Collections.emptyList();
+    }
+}
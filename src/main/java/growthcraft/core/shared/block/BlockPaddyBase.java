@@ -11,9 +11,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
-import net.minecraftforge.fluids.FluidRegistry;
 
-import java.util.Iterator;
 import java.util.Random;
 
 /**
@@ -82,8 +80,9 @@ public class BlockPaddyBase extends GrowthcraftBlockBase {
     @SuppressWarnings("deprecation")
     @Override
     public IBlockState getActualState(IBlockState state, IBlockAccess worldIn, BlockPos pos) {
-        return state.withProperty(MOISTURE, hasFluidSource(worldIn, pos))
-                .withProperty(IS_RADIOACTIVE, hasRadioactiveSource(worldIn, pos))
+        final int hydration = PaddyHydration.instance().getHydration(worldIn, pos);
+        return state.withProperty(MOISTURE, (hydration & PaddyHydration.WATER) != 0)
+                .withProperty(IS_RADIOACTIVE, (hydration & PaddyHydration.RADIOACTIVE) != 0)
                 .withProperty(NORTH, canConnectPaddyTo(worldIn, pos, EnumFacing.NORTH))
                 .withProperty(EAST, canConnectPaddyTo(worldIn, pos, EnumFacing.EAST))
                 .withProperty(SOUTH, canConnectPaddyTo(worldIn, pos, EnumFacing.SOUTH))
@@ -102,73 +101,27 @@ public class BlockPaddyBase extends GrowthcraftBlockBase {
 
     @Override
     public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand) {
-        // Get the some current state values so that we do not have to recalculate some of them.
-        boolean isConnectedNorth = (boolean) state.getValue(NORTH);
-        boolean isConnectedEast = (boolean) state.getValue(EAST);
-        boolean isConnectedSouth = (boolean) state.getValue(SOUTH);
-        boolean isConnectedWest = (boolean) state.getValue(WEST);
-
-        if (this.hasRadioactiveSource(worldIn, pos)) {
-            worldIn.setBlockState(pos, state.withProperty(MOISTURE, true)
-                    .withProperty(IS_RADIOACTIVE, true)
-                    .withProperty(NORTH, isConnectedNorth)
-                    .withProperty(EAST, isConnectedEast)
-                    .withProperty(SOUTH, isConnectedSouth)
-                    .withProperty(WEST, isConnectedWest), 3
-            );
-        } else if (this.hasFluidSource(worldIn, pos)) {
-            worldIn.setBlockState(pos, state.withProperty(MOISTURE, true)
-                    .withProperty(IS_RADIOACTIVE, false)
-                    .withProperty(NORTH, isConnectedNorth)
-                    .withProperty(EAST, isConnectedEast)
-                    .withProperty(SOUTH, isConnectedSouth)
-                    .withProperty(WEST, isConnectedWest), 3
-            );
-        } else {
-            worldIn.setBlockState(pos, state.withProperty(MOISTURE, false)
-                    .withProperty(IS_RADIOACTIVE, false)
-                    .withProperty(NORTH, isConnectedNorth)
-                    .withProperty(EAST, isConnectedEast)
-                    .withProperty(SOUTH, isConnectedSouth)
-                    .withProperty(WEST, isConnectedWest), 3
+        final int hydration = PaddyHydration.instance().getHydration(worldIn, pos);
+        final boolean radioactive = (hydration & PaddyHydration.RADIOACTIVE) != 0;
+        // a radioactive fluid keeps the paddy wet as well
+        final boolean moisture = radioactive || (hydration & PaddyHydration.WATER) != 0;
+
+        if (state.getValue(MOISTURE) != moisture || state.getValue(IS_RADIOACTIVE) != radioactive) {
+            worldIn.setBlockState(pos, state.withProperty(MOISTURE, moisture)
+                    .withProperty(IS_RADIOACTIVE, radioactive), 3
             );
         }
     }
 
     public boolean hasFluidSource(IBlockAccess worldIn, BlockPos pos) {
-        int maxFieldRange = 4;
-        Iterator var3 = BlockPos.getAllInBoxMutable(pos.add(-(maxFieldRange), 0, -(maxFieldRange)), pos.add(maxFieldRange, 1, maxFieldRange)).iterator();
-
-        BlockPos.MutableBlockPos blockpos$mutableblockpos;
-
-        while (var3.hasNext()) {
-            blockpos$mutableblockpos = (BlockPos.MutableBlockPos) var3.next();
-
-            if (FluidRegistry.lookupFluidForBlock(worldIn.getBlockState(blockpos$mutableblockpos).getBlock()) != null
-                    && FluidRegistry.lookupFluidForBlock(worldIn.getBlockState(blockpos$mutableblockpos).getBlock()).getName() == "water")
-                return true;
-        }
-        return false;
+        return (PaddyHydration.instance().getHydration(worldIn, pos) & PaddyHydration.WATER) != 0;
     }
 
+    /**
+     * The radioactive fluids are set with `paddyRadioactiveFluids` in the core config.
+     */
     public boolean hasRadioactiveSource(IBlockAccess worldIn, BlockPos pos) {
-        // TODO: Check for config, if null then return false, else convert to List<String>
-
-        int maxFieldRange = 4;
-        Iterator var3 = BlockPos.getAllInBoxMutable(pos.add(-(maxFieldRange), 0, -(maxFieldRange)), pos.add(maxFieldRange, 1, maxFieldRange)).iterator();
-
-        BlockPos.MutableBlockPos blockpos$mutableblockpos;
-
-        while (var3.hasNext()) {
-            blockpos$mutableblockpos = (BlockPos.MutableBlockPos) var3.next();
-
-            // TODO: Implement CONFIG for radioactive fluid names.
-            if (FluidRegistry.lookupFluidForBlock(worldIn.getBlockState(blockpos$mutableblockpos).getBlock()) != null
-                    && FluidRegistry.lookupFluidForBlock(worldIn.getBlockState(blockpos$mutableblockpos).getBlock()).getName() == "yellorium")
-                return true;
-        }
-
-        return false;
+        return (PaddyHydration.instance().getHydration(worldIn, pos) & PaddyHydration.RADIOACTIVE) != 0;
     }
 
     public boolean isRadioactive(World worldIn, BlockPos pos) {
@@ -0,0 +1,189 @@
+package growthcraft.core.shared.block;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Remembers where the blocks of one kind are, per chunk section, so questions like "how many
+ * apples are within 3 blocks" are answered from the few sections around the position instead
+ * of reading every block in the area.
+ * <p>
+ * A section is read once, straight from its block storage, the first time it is asked about,
+ * after that the block keeps the index up to date through {@link #onAdded(World, BlockPos)} and
+ * {@link #onRemoved(World, BlockPos)} (usually from onBlockAdded and breakBlock, which are only
+ * called on the server). Client worlds aren't indexed, asking about them reads the area.
+ * <p>
+ * The index has to be registered on the event bus, so it forgets unloaded chunks and worlds.
+ */
+public class BlockPopulationIndex {
+    private final Predicate<IBlockState> matcher;
+    private final Map<World, Long2ObjectMap<LongOpenHashSet>> sections = new WeakHashMap<World, Long2ObjectMap<LongOpenHashSet>>();
+
+    /**
+     * @param matcher - true for the states which are indexed
+     */
+    public BlockPopulationIndex(@Nonnull Predicate<IBlockState> matcher) {
+        this.matcher = matcher;
+    }
+
+    // Same layout as BlockPos#toLong, used for both block and section coordinates
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | ((long) z & 0x3FFFFFFL);
+    }
+
+    private Long2ObjectMap<LongOpenHashSet> getSections(World world) {
+        Long2ObjectMap<LongOpenHashSet> map = sections.get(world);
+        if (map == null) {
+            map = new Long2ObjectOpenHashMap<LongOpenHashSet>();
+            sections.put(world, map);
+        }
+        return map;
+    }
+
+    private LongOpenHashSet getSection(World world, Long2ObjectMap<LongOpenHashSet> map, int sx, int sy, int sz) {
+        final long key = pack(sx, sy, sz);
+        LongOpenHashSet section = map.get(key);
+        if (section == null) {
+            section = new LongOpenHashSet(4);
+            if (sy >= 0 && sy < 16) {
+                final Chunk chunk = world.getChunkFromChunkCoords(sx, sz);
+                final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sy];
+                if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty()) {
+                    for (int y = 0; y < 16; ++y) {
+                        for (int z = 0; z < 16; ++z) {
+                            for (int x = 0; x < 16; ++x) {
+                                if (matcher.test(storage.get(x, y, z))) {
+                                    section.add(pack((sx << 4) + x, (sy << 4) + y, (sz << 4) + z));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            map.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * Counts the indexed blocks in the box around the position.
+     *
+     * @param world - world
+     * @param pos   - center of the box
+     * @param rx    - distance from the center along x
+     * @param ry    - distance from the center along y
+     * @param rz    - distance from the center along z
+     * @param limit - the counting stops once this many blocks are found
+     * @return the number of blocks found, at most limit
+     */
+    public int count(@Nonnull World world, @Nonnull BlockPos pos, int rx, int ry, int rz, int limit) {
+        final int minX = pos.getX() - rx;
+        final int minY = pos.getY() - ry;
+        final int minZ = pos.getZ() - rz;
+        final int maxX = pos.getX() + rx;
+        final int maxY = pos.getY() + ry;
+        final int maxZ = pos.getZ() + rz;
+        if (world.isRemote) return countInWorld(world, minX, minY, minZ, maxX, maxY, maxZ, limit);
+
+        final Long2ObjectMap<LongOpenHashSet> map = getSections(world);
+        int found = 0;
+        for (int sx = minX >> 4; sx <= maxX >> 4; ++sx) {
+            for (int sz = minZ >> 4; sz <= maxZ >> 4; ++sz) {
+                for (int sy = minY >> 4; sy <= maxY >> 4; ++sy) {
+                    final LongOpenHashSet section = getSection(world, map, sx, sy, sz);
+                    if (section.isEmpty()) continue;
+                    final LongIterator it = section.iterator();
+                    while (it.hasNext()) {
+                        final long packed = it.nextLong();
+                        // unpacked the way BlockPos#fromLong does, without the BlockPos
+                        final int x = (int) (packed >> 38);
+                        final int y = (int) (packed << 26 >> 52);
+                        final int z = (int) (packed << 38 >> 38);
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                            if (++found >= limit) return found;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int countInWorld(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int limit) {
+        final BlockPos.PooledMutableBlockPos p = BlockPos.PooledMutableBlockPos.retain();
+        int found = 0;
+        try {
+            for (int x = minX; x <= maxX; ++x) {
+                for (int y = minY; y <= maxY; ++y) {
+                    for (int z = minZ; z <= maxZ; ++z) {
+                        if (matcher.test(world.getBlockState(p.setPos(x, y, z)))) {
+                            if (++found >= limit) return found;
+                        }
+                    }
+                }
+            }
+        } finally {
+            p.release();
+        }
+        return found;
+    }
+
+    /**
+     * @param world - world
+     * @param pos   - center of the box
+     * @param rx    - distance from the center along x
+     * @param ry    - distance from the center along y
+     * @param rz    - distance from the center along z
+     * @return true if there is at least one indexed block in the box
+     */
+    public boolean any(@Nonnull World world, @Nonnull BlockPos pos, int rx, int ry, int rz) {
+        return count(world, pos, rx, ry, rz, 1) > 0;
+    }
+
+    public void onAdded(@Nonnull World world, @Nonnull BlockPos pos) {
+        if (world.isRemote) return;
+        final Long2ObjectMap<LongOpenHashSet> map = sections.get(world);
+        if (map == null) return;
+        // sections which weren't read yet will find the block when they are
+        final LongOpenHashSet section = map.get(pack(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (section != null) section.add(pos.toLong());
+    }
+
+    public void onRemoved(@Nonnull World world, @Nonnull BlockPos pos) {
+        if (world.isRemote) return;
+        final Long2ObjectMap<LongOpenHashSet> map = sections.get(world);
+        if (map == null) return;
+        final LongOpenHashSet section = map.get(pack(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (section != null) section.remove(pos.toLong());
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        final Long2ObjectMap<LongOpenHashSet> map = sections.get(event.getWorld());
+        if (map == null || map.isEmpty()) return;
+        for (int sy = 0; sy < 16; ++sy) {
+            map.remove(pack(event.getChunk().x, sy, event.getChunk().z));
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        sections.remove(event.getWorld());
+    }
+}
@@ -0,0 +1,219 @@
+package growthcraft.core.shared.block;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockCrops;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Keeps the growth chances of crops, which {@link BlockCrops#getGrowthChance(Block, World, BlockPos)}
+ * computes from the soil around a crop on every growth attempt.
+ * <p>
+ * A crop grows at the chance of its growth root ({@link ICropDataProvider#getGrowthRoot(World, BlockPos)}),
+ * the root of each crop and the chance of each soil position are kept per chunk section on
+ * the server. A chance is only used while the soil block still has the state it was computed
+ * with. An entry is dropped when a block it was computed from sends a neighbour notification,
+ * when a crop changes without one ({@link #invalidate(World, BlockPos)}) or {@link #EXPIRE_TICKS}
+ * ticks after it was computed, as the farmland around the soil dries out and gets wet without
+ * notifying.
+ */
+public class CropEnvironment {
+    // roots further down than this aren't found by the crops
+    public static final int MAX_ROOT_DEPTH = 5;
+
+    // several random ticks of the same block, one comes about every 1365 ticks
+    private static final int EXPIRE_TICKS = 12000;
+    private static final CropEnvironment INSTANCE = new CropEnvironment();
+
+    static class Root {
+        final long pos;
+        final long createdAt;
+
+        Root(long pPos, long pCreatedAt) {
+            this.pos = pPos;
+            this.createdAt = pCreatedAt;
+        }
+    }
+
+    static class Chance {
+        final float chance;
+        final IBlockState soil;
+        final long createdAt;
+
+        Chance(float pChance, IBlockState pSoil, long pCreatedAt) {
+            this.chance = pChance;
+            this.soil = pSoil;
+            this.createdAt = pCreatedAt;
+        }
+    }
+
+    static class Section {
+        final Long2ObjectOpenHashMap<Root> roots = new Long2ObjectOpenHashMap<Root>();
+        final Long2ObjectOpenHashMap<Chance> chances = new Long2ObjectOpenHashMap<Chance>();
+
+        int size() {
+            return roots.size() + chances.size();
+        }
+    }
+
+    private final Map<World, Long2ObjectMap<Section>> sections = new WeakHashMap<World, Long2ObjectMap<Section>>();
+    // entries in all worlds, lets block updates skip the lock while nothing is kept
+    private volatile int entryCount;
+
+    private CropEnvironment() {
+    }
+
+    public static CropEnvironment instance() {
+        return INSTANCE;
+    }
+
+    private static long sectionKey(int sx, int sy, int sz) {
+        return ((long) sx & 0x3FFFFFFL) << 38 | ((long) sy & 0xFFFL) << 26 | ((long) sz & 0x3FFFFFFL);
+    }
+
+    private static long sectionKey(BlockPos pos) {
+        return sectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    private static boolean isExpired(long createdAt, long now) {
+        return now < createdAt || now - createdAt >= EXPIRE_TICKS;
+    }
+
+    private static Section getSection(Long2ObjectMap<Section> map, BlockPos pos) {
+        final long key = sectionKey(pos);
+        Section section = map.get(key);
+        if (section == null) {
+            section = new Section();
+            map.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * @param crop  - crop block, its root is asked for if it's an {@link ICropDataProvider}
+     * @param world - world
+     * @param pos   - crop position
+     * @return the growth chance of the crop's root
+     */
+    public float getGrowthChance(@Nonnull Block crop, @Nonnull World world, @Nonnull BlockPos pos) {
+        final ICropDataProvider provider = crop instanceof ICropDataProvider ? (ICropDataProvider) crop : null;
+        if (world.isRemote) {
+            return BlockCrops.getGrowthChance(crop, world, provider != null ? provider.getGrowthRoot(world, pos) : pos);
+        }
+
+        final long now = world.getTotalWorldTime();
+        synchronized (sections) {
+            Long2ObjectMap<Section> map = sections.get(world);
+            if (map == null) {
+                map = new Long2ObjectOpenHashMap<Section>();
+                sections.put(world, map);
+            }
+
+            BlockPos root = pos;
+            if (provider != null) {
+                final Section section = getSection(map, pos);
+                final Root entry = section.roots.get(pos.toLong());
+                if (entry != null && !isExpired(entry.createdAt, now)) {
+                    root = BlockPos.fromLong(entry.pos);
+                } else {
+                    root = provider.getGrowthRoot(world, pos);
+                    if (section.roots.put(pos.toLong(), new Root(root.toLong(), now)) == null) entryCount++;
+                }
+            }
+
+            final BlockPos soil = root.down();
+            final IBlockState soilState = world.getBlockState(soil);
+            final Section section = getSection(map, soil);
+            final Chance entry = section.chances.get(soil.toLong());
+            if (entry != null && entry.soil == soilState && !isExpired(entry.createdAt, now)) {
+                return entry.chance;
+            }
+            final float chance = BlockCrops.getGrowthChance(crop, world, root);
+            if (section.chances.put(soil.toLong(), new Chance(chance, soilState, now)) == null) entryCount++;
+            return chance;
+        }
+    }
+
+    private void remove(Long2ObjectMap<Section> map, BlockPos pos, boolean root) {
+        final long key = sectionKey(pos);
+        final Section section = map.get(key);
+        if (section == null) return;
+        if ((root ? section.roots : section.chances).remove(pos.toLong()) != null) entryCount--;
+        if (section.size() == 0) map.remove(key);
+    }
+
+    /**
+     * Drops what was computed from the position, for changes which don't notify the neighbours.
+     *
+     * @param world - world
+     * @param pos   - changed block
+     */
+    public void invalidate(@Nonnull World world, @Nonnull BlockPos pos) {
+        if (world.isRemote || entryCount == 0) return;
+        synchronized (sections) {
+            final Long2ObjectMap<Section> map = sections.get(world);
+            if (map == null || map.isEmpty()) return;
+            final BlockPos.PooledMutableBlockPos p = BlockPos.PooledMutableBlockPos.retain();
+            try {
+                // a soil chance reads the farmland around the soil and the crops around the one above it
+                for (int dx = -1; dx <= 1; ++dx) {
+                    for (int dz = -1; dz <= 1; ++dz) {
+                        remove(map, p.setPos(pos.getX() + dx, pos.getY(), pos.getZ() + dz), false);
+                        remove(map, p.setPos(pos.getX() + dx, pos.getY() - 1, pos.getZ() + dz), false);
+                    }
+                }
+                // a root is found by reading the column below the crop
+                for (int dy = 0; dy <= MAX_ROOT_DEPTH; ++dy) {
+                    remove(map, p.setPos(pos.getX(), pos.getY() + dy, pos.getZ()), true);
+                }
+            } finally {
+                p.release();
+            }
+        }
+    }
+
+    private void removeSection(Long2ObjectMap<Section> map, long key) {
+        final Section section = map.remove(key);
+        if (section != null) entryCount -= section.size();
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        invalidate(event.getWorld(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (entryCount == 0) return;
+        synchronized (sections) {
+            final Long2ObjectMap<Section> map = sections.get(event.getWorld());
+            if (map == null || map.isEmpty()) return;
+            for (int sy = 0; sy < 16; ++sy) {
+                removeSection(map, sectionKey(event.getChunk().x, sy, event.getChunk().z));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        synchronized (sections) {
+            final Long2ObjectMap<Section> map = sections.remove(event.getWorld());
+            if (map == null) return;
+            for (Section section : map.values()) {
+                entryCount -= section.size();
+            }
+        }
+    }
+}
@@ -3,10 +3,24 @@ package growthcraft.core.shared.block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
 
 /**
  * Waila data provider for crop blocks
  */
 public interface ICropDataProvider {
     public float getGrowthProgress(IBlockAccess world, BlockPos pos, IBlockState state);
+
+    /**
+     * The block whose soil decides how fast the crop grows, i.e. the root of a vine column.
+     * Roots are kept by the {@link CropEnvironment} and must lie at most
+     * {@link CropEnvironment#MAX_ROOT_DEPTH} blocks below the crop.
+     *
+     * @param world - world
+     * @param pos   - crop position
+     * @return the root position
+     */
+    default BlockPos getGrowthRoot(World world, BlockPos pos) {
+        return pos;
+    }
 }
@@ -0,0 +1,199 @@
+package growthcraft.core.shared.block;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Finds the water and radioactive fluid sources around paddy blocks.
+ * <p>
+ * Fluid blocks are classified once into a block table, the area around a paddy is read in
+ * a single pass for both kinds of source. On the server the results are kept per chunk
+ * section, until a block near the section sends a neighbour notification or the entry is
+ * {@link #EXPIRE_TICKS} ticks old (fluids flowing away don't always notify).
+ */
+public class PaddyHydration {
+    public static final int WATER = 1;
+    public static final int RADIOACTIVE = 2;
+
+    private static final byte NONE = 0;
+    private static final int RANGE = 4;
+    private static final int EXPIRE_TICKS = 600;
+    private static final PaddyHydration INSTANCE = new PaddyHydration();
+
+    static class Section {
+        final Long2ByteOpenHashMap results = new Long2ByteOpenHashMap();
+        final long createdAt;
+
+        Section(long now) {
+            this.createdAt = now;
+            results.defaultReturnValue((byte) -1);
+        }
+    }
+
+    private final Map<World, Long2ObjectMap<Section>> sections = new WeakHashMap<World, Long2ObjectMap<Section>>();
+    private volatile Reference2ByteOpenHashMap<Block> fluidClasses;
+    private String[] radioactiveFluids = {"yellorium"};
+
+    private PaddyHydration() {
+    }
+
+    public static PaddyHydration instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param fluids - names of the fluids which make a paddy radioactive
+     */
+    public void configure(@Nonnull String[] fluids) {
+        this.radioactiveFluids = fluids.clone();
+        this.fluidClasses = null;
+        synchronized (sections) {
+            sections.clear();
+        }
+    }
+
+    private byte classify(Fluid fluid) {
+        if (fluid == null) return NONE;
+        for (String name : radioactiveFluids) {
+            if (name.equals(fluid.getName())) return RADIOACTIVE;
+        }
+        return "water".equals(fluid.getName()) ? WATER : NONE;
+    }
+
+    private Reference2ByteOpenHashMap<Block> getFluidClasses() {
+        Reference2ByteOpenHashMap<Block> table = fluidClasses;
+        if (table == null) {
+            table = new Reference2ByteOpenHashMap<Block>();
+            table.defaultReturnValue(NONE);
+            for (Fluid fluid : FluidRegistry.getRegisteredFluids().values()) {
+                final Block block = fluid.getBlock();
+                final byte value = classify(fluid);
+                if (block != null && value != NONE) table.put(block, value);
+            }
+            // FluidRegistry.lookupFluidForBlock maps the vanilla flowing blocks as well
+            final byte water = classify(FluidRegistry.WATER);
+            if (water != NONE) table.put(Blocks.FLOWING_WATER, water);
+            final byte lava = classify(FluidRegistry.LAVA);
+            if (lava != NONE) table.put(Blocks.FLOWING_LAVA, lava);
+            this.fluidClasses = table;
+        }
+        return table;
+    }
+
+    /**
+     * Reads the area around the paddy, a 9x2x9 box starting at the paddy's level.
+     *
+     * @param world - world
+     * @param pos   - paddy position
+     * @return WATER and / or RADIOACTIVE flags
+     */
+    public int scan(@Nonnull IBlockAccess world, @Nonnull BlockPos pos) {
+        final Reference2ByteOpenHashMap<Block> table = getFluidClasses();
+        final BlockPos.PooledMutableBlockPos p = BlockPos.PooledMutableBlockPos.retain();
+        int result = 0;
+        try {
+            for (int y = 0; y <= 1; ++y) {
+                for (int x = -RANGE; x <= RANGE; ++x) {
+                    for (int z = -RANGE; z <= RANGE; ++z) {
+                        p.setPos(pos.getX() + x, pos.getY() + y, pos.getZ() + z);
+                        result |= table.getByte(world.getBlockState(p).getBlock());
+                        if (result == (WATER | RADIOACTIVE)) return result;
+                    }
+                }
+            }
+        } finally {
+            p.release();
+        }
+        return result;
+    }
+
+    private static long sectionKey(int sx, int sy, int sz) {
+        return ((long) sx & 0x3FFFFFFL) << 38 | ((long) sy & 0xFFFL) << 26 | ((long) sz & 0x3FFFFFFL);
+    }
+
+    /**
+     * @param world - world
+     * @param pos   - paddy position
+     * @return WATER and / or RADIOACTIVE flags
+     */
+    public int getHydration(@Nonnull IBlockAccess world, @Nonnull BlockPos pos) {
+        if (!(world instanceof World) || ((World) world).isRemote) return scan(world, pos);
+
+        final World w = (World) world;
+        final long now = w.getTotalWorldTime();
+        final long key = sectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        synchronized (sections) {
+            Long2ObjectMap<Section> map = sections.get(w);
+            if (map == null) {
+                map = new Long2ObjectOpenHashMap<Section>();
+                sections.put(w, map);
+            }
+            Section section = map.get(key);
+            if (section == null || now < section.createdAt || now - section.createdAt >= EXPIRE_TICKS) {
+                section = new Section(now);
+                map.put(key, section);
+            }
+            byte value = section.results.get(pos.toLong());
+            if (value < 0) {
+                value = (byte) scan(world, pos);
+                section.results.put(pos.toLong(), value);
+            }
+            return value;
+        }
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        final World world = event.getWorld();
+        if (world.isRemote) return;
+        synchronized (sections) {
+            final Long2ObjectMap<Section> map = sections.get(world);
+            if (map == null || map.isEmpty()) return;
+            // paddies at the changed block's level and the one below read it
+            final BlockPos pos = event.getPos();
+            for (int sx = (pos.getX() - RANGE) >> 4; sx <= (pos.getX() + RANGE) >> 4; ++sx) {
+                for (int sy = (pos.getY() - 1) >> 4; sy <= pos.getY() >> 4; ++sy) {
+                    for (int sz = (pos.getZ() - RANGE) >> 4; sz <= (pos.getZ() + RANGE) >> 4; ++sz) {
+                        map.remove(sectionKey(sx, sy, sz));
+                    }
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        synchronized (sections) {
+            final Long2ObjectMap<Section> map = sections.get(event.getWorld());
+            if (map == null || map.isEmpty()) return;
+            for (int sy = 0; sy < 16; ++sy) {
+                map.remove(sectionKey(event.getChunk().x, sy, event.getChunk().z));
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        synchronized (sections) {
+            sections.remove(event.getWorld());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package growthcraft.core.shared.block;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+/**
+ * Finds the rope connections of rope blocks and the plants growing on them.
+ * <p>
+ * The registered blocks are classified once, on first use after registration, into a block
+ * table, so a neighbour test is a table lookup instead of an interface check. The connections
+ * of a position are read as a mask with a bit per side ({@link EnumFacing#getIndex()}), the
+ * blocks map the mask to their actual state through tables built with their block states.
+ */
+public class RopeConnections {
+    public static final int ALL = 0x3F;
+
+    private static final byte NONE = 0;
+    private static final byte ROPE = 1;
+
+    private static volatile Reference2ByteOpenHashMap<Block> blockClasses;
+
+    private RopeConnections() {
+    }
+
+    private static Reference2ByteOpenHashMap<Block> getBlockClasses() {
+        Reference2ByteOpenHashMap<Block> table = blockClasses;
+        if (table == null) {
+            table = new Reference2ByteOpenHashMap<Block>();
+            table.defaultReturnValue(NONE);
+            for (Block block : ForgeRegistries.BLOCKS) {
+                if (block instanceof IBlockRope) table.put(block, ROPE);
+            }
+            blockClasses = table;
+        }
+        return table;
+    }
+
+    /**
+     * @param block - block to test
+     * @return true if ropes connect to the block
+     */
+    public static boolean isRope(@Nonnull Block block) {
+        return getBlockClasses().getByte(block) == ROPE;
+    }
+
+    /**
+     * @param facing - side
+     * @return the side's bit in a connection mask
+     */
+    public static int bit(@Nonnull EnumFacing facing) {
+        return 1 << facing.getIndex();
+    }
+
+    /**
+     * Reads each neighbour of the position once.
+     *
+     * @param world - world
+     * @param pos   - position of the rope block
+     * @return mask of the sides with a rope next to them
+     */
+    public static int getRopeMask(@Nonnull IBlockAccess world, @Nonnull BlockPos pos) {
+        final Reference2ByteOpenHashMap<Block> table = getBlockClasses();
+        final BlockPos.PooledMutableBlockPos p = BlockPos.PooledMutableBlockPos.retain();
+        int mask = 0;
+        try {
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                p.setPos(pos.getX() + facing.getFrontOffsetX(), pos.getY() + facing.getFrontOffsetY(), pos.getZ() + facing.getFrontOffsetZ());
+                if (table.getByte(world.getBlockState(p).getBlock()) == ROPE) mask |= bit(facing);
+            }
+        } finally {
+            p.release();
+        }
+        return mask;
+    }
+}
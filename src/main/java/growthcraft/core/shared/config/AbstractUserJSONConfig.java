@@ -1,19 +1,45 @@
 package growthcraft.core.shared.config;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
+import javax.annotation.Nullable;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.Reference;
 import net.minecraftforge.common.config.Configuration.UnicodeInputStreamReader;
 
+/**
+ * A user editable json file, parsed into the config's schema classes and applied to the
+ * registries in postInit (or wherever the module applies it).
+ * <p>
+ * Parsing can start early: {@link #prefetch()} parses the user file on the common fork-join
+ * pool while the mod is still loading, {@link #loadUserConfig()} then waits for it and only
+ * parses again if the file's content changed in between (or the early parse failed, so the
+ * error is reported as usual). A file whose content hash matches the last parsed one is never
+ * parsed twice. Parsing only fills the config's own fields, validating the entries against the
+ * game registries is left to the main thread.
+ * <p>
+ * Configs which override {@link #reapply()} can be reloaded while the game runs, see
+ * {@link UserConfigReloader}.
+ */
 public abstract class AbstractUserJSONConfig {
     // INITIALIZE
     // OPEN
@@ -25,6 +51,10 @@ public abstract class AbstractUserJSONConfig {
             create();
     private File targetConfigFile;
     private File targetDefaultConfigFile;
+    // content and its hash of the file last parsed without errors
+    private volatile HashCode loadedHash;
+    private byte[] loadedContent;
+    private CompletableFuture<Void> prefetched;
 
     /**
      * @return a default json configuration string
@@ -33,13 +63,13 @@ public abstract class AbstractUserJSONConfig {
 
     private void writeDefaultConfigTo(File file) {
         try {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Creating default json-config %s", file);
+            GrowthcraftLogger.getLogger(Reference.MODID).debug("Creating default json-config {}", file);
             if (file.getParentFile() != null)
                 file.getParentFile().mkdirs();
 
             if (!file.exists()) {
                 if (!file.createNewFile()) {
-                    GrowthcraftLogger.getLogger(Reference.MODID).error("Could not create default config %s", file);
+                    GrowthcraftLogger.getLogger(Reference.MODID).error("Could not create default config {}", file);
                     return;
                 }
             }
@@ -64,75 +94,157 @@ public abstract class AbstractUserJSONConfig {
     public AbstractUserJSONConfig setConfigFile(File dir, String filename) {
         this.targetConfigFile = new File(dir, filename);
         this.targetDefaultConfigFile = new File(dir, filename + ".default");
-        GrowthcraftLogger.getLogger(Reference.MODID).debug("Config file `%s` was set for `%s`", targetConfigFile, this);
-        GrowthcraftLogger.getLogger(Reference.MODID).debug("DEFAULT Config file `%s` was set for `%s`", targetDefaultConfigFile, this);
+        GrowthcraftLogger.getLogger(Reference.MODID).debug("Config file `{}` was set for `{}`", targetConfigFile, this);
+        GrowthcraftLogger.getLogger(Reference.MODID).debug("DEFAULT Config file `{}` was set for `{}`", targetDefaultConfigFile, this);
+        UserConfigReloader.instance().register(this);
         return this;
     }
 
+    public File getConfigFile() {
+        return targetConfigFile;
+    }
+
     private void prepareUserConfig() throws IOException {
         if (!targetConfigFile.exists()) {
             if (targetConfigFile.getParentFile() != null)
                 targetConfigFile.getParentFile().mkdirs();
 
             if (!targetConfigFile.createNewFile()) {
-                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not create config file `%s`", targetConfigFile);
+                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not create config file `{}`", targetConfigFile);
                 return;
             }
 
             if (targetDefaultConfigFile.exists()) {
                 Files.copy(targetDefaultConfigFile, targetConfigFile);
             } else {
-                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not copy default config file `%s` to `%s`", targetDefaultConfigFile, targetConfigFile);
+                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not copy default config file `{}` to `{}`", targetDefaultConfigFile, targetConfigFile);
             }
         }
     }
 
-    private void readUserConfigFile(File file) {
-        BufferedReader buffer = null;
-        UnicodeInputStreamReader input = null;
+    /**
+     * @return true if the file was parsed, false if its content didn't change since the last parse
+     */
+    private synchronized boolean readUserConfigFile(File file) throws IOException {
+        final long start = System.nanoTime();
+        final byte[] bytes = Files.toByteArray(file);
+        final HashCode hash = Hashing.sha1().hashBytes(bytes);
+        if (hash.equals(loadedHash)) {
+            GrowthcraftLogger.getLogger(Reference.MODID).debug("json-config {} is unchanged, skipped parsing", file);
+            return false;
+        }
+
+        this.loadedHash = null;
+        try (BufferedReader buffer = new BufferedReader(new UnicodeInputStreamReader(new ByteArrayInputStream(bytes), DEFAULT_ENCODING))) {
+            loadFromBuffer(buffer);
+        }
+        this.loadedHash = hash;
+        this.loadedContent = bytes;
+        GrowthcraftLogger.getLogger(Reference.MODID).debug("Loaded json-config {} ({} bytes) in {} ms", file, bytes.length, (System.nanoTime() - start) / 1000000L);
+        return true;
+    }
 
-        try {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Loading json-config %s", file);
+    /**
+     * Parses the user file again for a reload, may be called from any thread. The parsed
+     * entries are kept until {@link #reapply()} applies them.
+     *
+     * @return the number of data entries added or removed since the last parse, 0 if the file is unchanged
+     * @throws IOException         the file can't be read
+     * @throws JsonParseException  the file isn't valid, the previous entries are kept
+     */
+    public synchronized int reparse() throws IOException {
+        final byte[] previous = loadedContent;
+        if (!readUserConfigFile(targetConfigFile)) return 0;
+        return countChangedEntries(previous, loadedContent);
+    }
+
+    /**
+     * Applies the parsed entries again, replacing the ones applied before. Called on the
+     * main thread after {@link #reparse()} found changes.
+     *
+     * @return false if this config can't be applied again while the game runs
+     */
+    public boolean reapply() {
+        return false;
+    }
 
-            prepareUserConfig();
-            if (file.canRead()) {
-                input = new UnicodeInputStreamReader(new FileInputStream(file), DEFAULT_ENCODING);
-                buffer = new BufferedReader(input);
-                loadFromBuffer(buffer);
+    private static int countChangedEntries(@Nullable byte[] before, @Nullable byte[] after) {
+        final Multiset<JsonElement> removed = dataEntries(before);
+        int added = 0;
+        for (JsonElement entry : dataEntries(after)) {
+            if (!removed.remove(entry)) added++;
+        }
+        return added + removed.size();
+    }
+
+    // the entries of the "data" list all user configs have, or the whole file
+    private static Multiset<JsonElement> dataEntries(@Nullable byte[] content) {
+        final Multiset<JsonElement> entries = HashMultiset.create();
+        if (content == null) return entries;
+        try (Reader reader = new UnicodeInputStreamReader(new ByteArrayInputStream(content), DEFAULT_ENCODING)) {
+            final JsonElement root = new JsonParser().parse(reader);
+            final JsonElement data = root.isJsonObject() ? root.getAsJsonObject().get("data") : null;
+            if (data != null && data.isJsonArray()) {
+                for (JsonElement entry : data.getAsJsonArray()) entries.add(entry);
             } else {
-                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not read config file %s", file);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            if (buffer != null) {
-                try {
-                    buffer.close();
-                } catch (IOException e) {
-                }
+                entries.add(root);
             }
-            if (input != null) {
-                try {
-                    input.close();
-                } catch (IOException e) {
-                }
+        } catch (IOException | JsonParseException e) {
+            // the content was parsed before, so this shouldn't happen
+        }
+        return entries;
+    }
+
+    /**
+     * Starts parsing the user config file in the background, if it exists already.
+     * Call it once the config file was set, {@link #loadUserConfig()} picks the result up.
+     *
+     * @return this
+     */
+    public AbstractUserJSONConfig prefetch() {
+        final File file = targetConfigFile;
+        if (prefetched != null || file == null || !file.isFile()) return this;
+        this.prefetched = CompletableFuture.runAsync(() -> {
+            try {
+                readUserConfigFile(file);
+            } catch (Exception e) {
+                // loadUserConfig parses it again and reports the error
             }
+        }, ForkJoinPool.commonPool());
+        return this;
+    }
+
+    private void readUserConfig(File file) throws IOException {
+        GrowthcraftLogger.getLogger(Reference.MODID).debug("Loading json-config {}", file);
+        prepareUserConfig();
+        if (file.canRead()) {
+            readUserConfigFile(file);
+        } else {
+            GrowthcraftLogger.getLogger(Reference.MODID).error("Could not read config file {}", file);
         }
     }
 
     public void loadUserConfig() {
+        if (prefetched != null) {
+            prefetched.join();
+            this.prefetched = null;
+        }
         writeDefaultConfigTo(targetDefaultConfigFile);
         try {
-            readUserConfigFile(targetConfigFile);
+            readUserConfig(targetConfigFile);
             return;
         }
         //catch (IllegalStateException e)
         catch (Exception e) {
-            GrowthcraftLogger.getLogger(Reference.MODID).error("JSON Config '%s' contains errors", targetConfigFile);
+            GrowthcraftLogger.getLogger(Reference.MODID).error("JSON Config '{}' contains errors", targetConfigFile);
             e.printStackTrace();
         }
         GrowthcraftLogger.getLogger(Reference.MODID).warn("Falling back to default config file");
-        readUserConfigFile(targetDefaultConfigFile);
+        try {
+            readUserConfig(targetDefaultConfigFile);
+        } catch (Exception e) {
+            GrowthcraftLogger.getLogger(Reference.MODID).error("Default json-config {} could not be loaded, no entries were registered", targetDefaultConfigFile, e);
+        }
     }
 
     public void preInit() {
@@ -1,7 +1,9 @@
 package growthcraft.core.shared.config;
 
 import growthcraft.core.shared.Reference;
+import growthcraft.core.shared.block.PaddyHydration;
 import growthcraft.core.shared.legacy.FluidContainerRegistry;
+import growthcraft.core.shared.tileentity.TileUpdateCoalescer;
 import net.minecraft.util.text.translation.I18n;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.config.Configuration;
@@ -24,6 +26,8 @@ public class GrowthcraftCoreConfig {
 
     public static final String CATEGORY_NAME_GENERAL = "general";
     public static boolean hidePoisonedBooze = true;
+    public static String[] paddyRadioactiveFluids = new String[]{"yellorium"};
+    public static boolean watchUserConfigs = false;
 
 
     public static final String CATEGORY_NAME_LOGGING = "logging";
@@ -38,6 +42,10 @@ public class GrowthcraftCoreConfig {
 
     public static int bottleCapacity = FluidContainerRegistry.BOTTLE_VOLUME;
 
+    public static final String CATEGORY_NAME_NETWORKING = "networking";
+    public static int tileResyncInterval = 1;
+    public static String[] tileResyncIntervals = new String[0];
+
 
     public static void preInit() {
         File configFile = new File(Loader.instance().getConfigDir(), "growthcraft/growthcraft-core.cfg");
@@ -106,13 +114,38 @@ public class GrowthcraftCoreConfig {
 
         config.setCategoryPropertyOrder(CATEGORY_NAME_WORLDGEN, propertyOrderWorldGenBlocks);
 
+        /* Configuration: Networking */
+        Property propertyTileResyncInterval = config.get(CATEGORY_NAME_NETWORKING, "tileResyncInterval", 1);
+        propertyTileResyncInterval.setLanguageKey("config.networking.tileResyncInterval");
+        propertyTileResyncInterval.setComment(I18n.translateToLocal("config.networking.tileResyncInterval.comment"));
+
+        Property propertyTileResyncIntervals = config.get(CATEGORY_NAME_NETWORKING, "tileResyncIntervals", new String[0]);
+        propertyTileResyncIntervals.setLanguageKey("config.networking.tileResyncIntervals");
+        propertyTileResyncIntervals.setComment(I18n.translateToLocal("config.networking.tileResyncIntervals.comment"));
+
+        List<String> propertyOrderNetworking = new ArrayList<String>();
+        propertyOrderNetworking.add(propertyTileResyncInterval.getName());
+        propertyOrderNetworking.add(propertyTileResyncIntervals.getName());
+
+        config.setCategoryPropertyOrder(CATEGORY_NAME_NETWORKING, propertyOrderNetworking);
+
         /* Configuration: General / Everything Else */
         Property propertyHidePoisonedBooze = config.get(CATEGORY_NAME_GENERAL, "hidePoisonedBooze", true);
         propertyHidePoisonedBooze.setLanguageKey("config.general.hidePoisonedBooze");
         propertyHidePoisonedBooze.setComment(I18n.translateToLocal("config.general.hidePoisonedBooze.comment"));
 
+        Property propertyPaddyRadioactiveFluids = config.get(CATEGORY_NAME_GENERAL, "paddyRadioactiveFluids", new String[]{"yellorium"});
+        propertyPaddyRadioactiveFluids.setLanguageKey("config.general.paddyRadioactiveFluids");
+        propertyPaddyRadioactiveFluids.setComment(I18n.translateToLocal("config.general.paddyRadioactiveFluids.comment"));
+
+        Property propertyWatchUserConfigs = config.get(CATEGORY_NAME_GENERAL, "watchUserConfigs", false);
+        propertyWatchUserConfigs.setLanguageKey("config.general.watchUserConfigs");
+        propertyWatchUserConfigs.setComment(I18n.translateToLocal("config.general.watchUserConfigs.comment"));
+
         List<String> propertyOrderGeneralBlocks = new ArrayList<String>();
         propertyOrderGeneralBlocks.add(propertyHidePoisonedBooze.getName());
+        propertyOrderGeneralBlocks.add(propertyPaddyRadioactiveFluids.getName());
+        propertyOrderGeneralBlocks.add(propertyWatchUserConfigs.getName());
 
         config.setCategoryPropertyOrder(CATEGORY_NAME_GENERAL, propertyOrderGeneralBlocks);
 
@@ -125,8 +158,16 @@ public class GrowthcraftCoreConfig {
             blockSaltOreChanceToSpawn = propertyBlockSaltOreChanceToSpawn.getInt();
 
             hidePoisonedBooze = propertyHidePoisonedBooze.getBoolean();
+            paddyRadioactiveFluids = propertyPaddyRadioactiveFluids.getStringList();
+            watchUserConfigs = propertyWatchUserConfigs.getBoolean();
+
+            tileResyncInterval = propertyTileResyncInterval.getInt();
+            tileResyncIntervals = propertyTileResyncIntervals.getStringList();
         }
 
+        TileUpdateCoalescer.instance().configure(tileResyncInterval, tileResyncIntervals);
+        PaddyHydration.instance().configure(paddyRadioactiveFluids);
+
         propertyLogLevel.set(loggingLevel);
 
         if (config.hasChanged())
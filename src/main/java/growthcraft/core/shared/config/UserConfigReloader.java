@@ -0,0 +1,216 @@
+package growthcraft.core.shared.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.Reference;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+/**
+ * Reloads user json configs while the server runs, from the /growthcraft reload command or
+ * from a watcher on the config directory (see {@link GrowthcraftCoreConfig#watchUserConfigs}).
+ * <p>
+ * The changed files are parsed in parallel off the server thread, files whose content didn't
+ * change are skipped. The configs are then applied again on the server thread, each one
+ * builds a new registry and swaps it in, and every device's cached recipe is invalidated.
+ * Configs which can't be applied again are reported as needing a restart.
+ */
+public class UserConfigReloader {
+    // editors save in several steps, changes are collected until the directory was quiet this long
+    private static final long QUIET_MILLIS = 250L;
+
+    private static final UserConfigReloader INSTANCE = new UserConfigReloader();
+
+    private final List<AbstractUserJSONConfig> configs = new CopyOnWriteArrayList<AbstractUserJSONConfig>();
+    private WatchService watchService;
+
+    private UserConfigReloader() {
+    }
+
+    public static UserConfigReloader instance() {
+        return INSTANCE;
+    }
+
+    public void register(@Nonnull AbstractUserJSONConfig config) {
+        if (!configs.contains(config)) configs.add(config);
+    }
+
+    /**
+     * Reloads every registered config.
+     *
+     * @param sender - gets the result once the reload is done, may be null
+     */
+    public void reloadAll(@Nullable ICommandSender sender) {
+        reload(configs, sender);
+    }
+
+    /**
+     * Parses the configs in the background and applies the changed ones on the server thread.
+     *
+     * @param toReload - configs to reload
+     * @param sender   - gets the result once the reload is done, may be null
+     */
+    public void reload(@Nonnull Collection<AbstractUserJSONConfig> toReload, @Nullable ICommandSender sender) {
+        final long start = System.nanoTime();
+        final Map<AbstractUserJSONConfig, CompletableFuture<Integer>> parses = new LinkedHashMap<AbstractUserJSONConfig, CompletableFuture<Integer>>();
+        for (AbstractUserJSONConfig config : toReload) {
+            parses.put(config, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return config.reparse();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, ForkJoinPool.commonPool()));
+        }
+        CompletableFuture.allOf(parses.values().toArray(new CompletableFuture<?>[0])).whenComplete((result, error) -> {
+            final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+            if (server != null) server.addScheduledTask(() -> apply(parses, sender, start));
+        });
+    }
+
+    private void apply(@Nonnull Map<AbstractUserJSONConfig, CompletableFuture<Integer>> parses, @Nullable ICommandSender sender, long start) {
+        int files = 0;
+        int changed = 0;
+        final List<String> restart = new ArrayList<String>();
+        final List<String> failed = new ArrayList<String>();
+        for (Map.Entry<AbstractUserJSONConfig, CompletableFuture<Integer>> entry : parses.entrySet()) {
+            final String name = entry.getKey().getConfigFile().getName();
+            final int count;
+            try {
+                count = entry.getValue().join();
+            } catch (CompletionException e) {
+                GrowthcraftLogger.getLogger(Reference.MODID).error("Could not reload json-config {}", entry.getKey().getConfigFile(), e.getCause());
+                failed.add(name);
+                continue;
+            }
+            if (count == 0) continue;
+            if (!entry.getKey().reapply()) {
+                restart.add(name);
+                continue;
+            }
+            GrowthcraftLogger.getLogger(Reference.MODID).info("Reloaded json-config {}, {} entries changed", name, count);
+            files++;
+            changed += count;
+        }
+        if (files > 0) RecipeCache.invalidateAll();
+
+        final long millis = (System.nanoTime() - start) / 1000000L;
+        GrowthcraftLogger.getLogger(Reference.MODID).info("Reloaded {} json-configs in {} ms, {} entries changed", files, millis, changed);
+        if (!restart.isEmpty()) {
+            GrowthcraftLogger.getLogger(Reference.MODID).warn("Changes to {} need a restart", restart);
+        }
+        if (sender != null) {
+            sender.sendMessage(new TextComponentTranslation("commands.growthcraft.reload.done", files, changed, millis));
+            if (!restart.isEmpty()) {
+                sender.sendMessage(new TextComponentTranslation("commands.growthcraft.reload.restart", String.join(", ", restart)));
+            }
+            if (!failed.isEmpty()) {
+                sender.sendMessage(new TextComponentTranslation("commands.growthcraft.reload.failed", String.join(", ", failed)));
+            }
+        }
+    }
+
+    private static Path normalize(@Nonnull File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    private static void registerTree(@Nonnull WatchService service, @Nonnull Path dir, @Nonnull Map<WatchKey, Path> dirs) throws IOException {
+        dirs.put(dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY), dir);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (Path child : children) {
+                if (Files.isDirectory(child)) registerTree(service, child, dirs);
+            }
+        }
+    }
+
+    /**
+     * Reloads the registered configs whenever their files change.
+     *
+     * @param dir - directory to watch, including its sub directories
+     */
+    public synchronized void startWatching(@Nonnull File dir) {
+        if (watchService != null || !dir.isDirectory()) return;
+        try {
+            final WatchService service = FileSystems.getDefault().newWatchService();
+            final Map<WatchKey, Path> dirs = new HashMap<WatchKey, Path>();
+            registerTree(service, normalize(dir), dirs);
+            this.watchService = service;
+            final Thread thread = new Thread(() -> watch(service, dirs), "Growthcraft config watcher");
+            thread.setDaemon(true);
+            thread.start();
+            GrowthcraftLogger.getLogger(Reference.MODID).info("Watching {} for json-config changes", dir);
+        } catch (IOException e) {
+            GrowthcraftLogger.getLogger(Reference.MODID).error("Could not watch {} for json-config changes", dir, e);
+        }
+    }
+
+    public synchronized void stopWatching() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // the watcher thread ends either way
+        }
+        this.watchService = null;
+    }
+
+    private void watch(@Nonnull WatchService service, @Nonnull Map<WatchKey, Path> dirs) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                final Set<Path> changed = new HashSet<Path>();
+                while (key != null) {
+                    final Path dir = dirs.get(key);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (dir != null && event.context() instanceof Path) {
+                            changed.add(dir.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                    key = service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                final List<AbstractUserJSONConfig> toReload = new ArrayList<AbstractUserJSONConfig>();
+                for (AbstractUserJSONConfig config : configs) {
+                    if (config.getConfigFile() != null && changed.contains(normalize(config.getConfigFile()))) {
+                        toReload.add(config);
+                    }
+                }
+                if (!toReload.isEmpty()) reload(toReload, null);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package growthcraft.core.shared.fluids;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -13,37 +19,175 @@ import javax.annotation.Nullable;
 
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.Reference;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
+/**
+ * Tags of the fluids.
+ * <p>
+ * The tagged fluids are numbered in the order they were first tagged, the tags bring their
+ * own numbers ({@link FluidTag#getOrdinal()}). Each fluid's tags are kept as a bitmask over the
+ * tag numbers and each tag's fluids as a bitmask over the fluid numbers, so a tag test is a bit
+ * test and a query for several tags ANDs the tags' masks. Tags are only added while loading,
+ * every change rebuilds the tables and publishes them as a whole.
+ */
 public class FluidDictionary {
     // REVISE_ME 0
 
-    private Map<Fluid, Set<FluidTag>> fluidToTagsMap = new HashMap<Fluid, Set<FluidTag>>();
-    private Map<FluidTag, Set<Fluid>> tagToFluidsMap = new HashMap<FluidTag, Set<Fluid>>();
+    static class Tables {
+        final Reference2IntOpenHashMap<Fluid> fluidIds;
+        final Fluid[] fluids;
+        // tagWords longs per fluid number
+        final int tagWords;
+        final long[] fluidTags;
+        // fluidWords longs per tag number
+        final int fluidWords;
+        final long[] tagFluids;
+        // tags of each fluid in tag number order, fluids of each tag
+        final List<Collection<FluidTag>> tagLists;
+        final List<Set<Fluid>> fluidSets;
 
-    //	@Override
-    public void addFluidTags(@Nonnull Fluid fluid, @Nonnull FluidTag... tags) {
-        if (!fluidToTagsMap.containsKey(fluid)) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing new HashSet for fluid {%s}", fluid);
-            fluidToTagsMap.put(fluid, new HashSet<FluidTag>());
+        Tables(Map<Fluid, Set<FluidTag>> entries) {
+            int tagCount = 0;
+            for (Set<FluidTag> tags : entries.values()) {
+                for (FluidTag tag : tags) {
+                    tagCount = Math.max(tagCount, tag.getOrdinal() + 1);
+                }
+            }
+            this.fluids = entries.keySet().toArray(new Fluid[0]);
+            this.fluidIds = new Reference2IntOpenHashMap<Fluid>(fluids.length);
+            fluidIds.defaultReturnValue(-1);
+            this.tagWords = Math.max(1, (tagCount + 63) >>> 6);
+            this.fluidWords = Math.max(1, (fluids.length + 63) >>> 6);
+            this.fluidTags = new long[fluids.length * tagWords];
+            this.tagFluids = new long[tagCount * fluidWords];
+            this.tagLists = new ArrayList<Collection<FluidTag>>(fluids.length);
+            for (int f = 0; f < fluids.length; ++f) {
+                fluidIds.put(fluids[f], f);
+                final FluidTag[] tags = entries.get(fluids[f]).toArray(new FluidTag[0]);
+                Arrays.sort(tags, Comparator.comparingInt(FluidTag::getOrdinal));
+                for (FluidTag tag : tags) {
+                    final int t = tag.getOrdinal();
+                    fluidTags[f * tagWords + (t >>> 6)] |= 1L << t;
+                    tagFluids[t * fluidWords + (f >>> 6)] |= 1L << f;
+                }
+                tagLists.add(Collections.unmodifiableList(Arrays.asList(tags)));
+            }
+            this.fluidSets = new ArrayList<Set<Fluid>>(tagCount);
+            for (int t = 0; t < tagCount; ++t) {
+                fluidSets.add(new FluidSet(this, Arrays.copyOfRange(tagFluids, t * fluidWords, (t + 1) * fluidWords)));
+            }
+        }
+
+        boolean hasTag(int fluidId, @Nullable FluidTag tag) {
+            if (tag == null) return false;
+            final int t = tag.getOrdinal();
+            final int word = t >>> 6;
+            return word < tagWords && (fluidTags[fluidId * tagWords + word] & (1L << t)) != 0;
+        }
+
+        /**
+         * ANDs the tag's fluid mask into the given mask.
+         *
+         * @return false if no fluid is left
+         */
+        boolean retainTag(@Nonnull long[] mask, @Nullable FluidTag tag) {
+            final int t = tag != null ? tag.getOrdinal() : -1;
+            final boolean known = t >= 0 && t < fluidSets.size();
+            long any = 0;
+            for (int i = 0; i < fluidWords; ++i) {
+                mask[i] = known ? mask[i] & tagFluids[t * fluidWords + i] : 0;
+                any |= mask[i];
+            }
+            return any != 0;
+        }
+    }
+
+    /**
+     * Read only set of tagged fluids, backed by a mask over the fluid numbers.
+     */
+    static class FluidSet extends AbstractSet<Fluid> {
+        private final Tables tables;
+        private final long[] mask;
+        private final int size;
+
+        FluidSet(Tables pTables, long[] pMask) {
+            this.tables = pTables;
+            this.mask = pMask;
+            int count = 0;
+            for (long word : pMask) {
+                count += Long.bitCount(word);
+            }
+            this.size = count;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Fluid)) return false;
+            final int f = tables.fluidIds.getInt(o);
+            return f >= 0 && (mask[f >>> 6] & (1L << f)) != 0;
         }
 
-        final Set<FluidTag> tagSet = fluidToTagsMap.get(fluid);
+        @Override
+        public Iterator<Fluid> iterator() {
+            return new Iterator<Fluid>() {
+                private int word = 0;
+                private long bits = mask.length > 0 ? mask[0] : 0;
+
+                @Override
+                public boolean hasNext() {
+                    while (bits == 0 && word + 1 < mask.length) {
+                        bits = mask[++word];
+                    }
+                    return bits != 0;
+                }
+
+                @Override
+                public Fluid next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    final int f = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    return tables.fluids[f];
+                }
+            };
+        }
+    }
+
+    // written under the lock only, read through the tables
+    private final Map<Fluid, Set<FluidTag>> entries = new LinkedHashMap<Fluid, Set<FluidTag>>();
+    private volatile Tables tables = new Tables(entries);
+
+    //	@Override
+    public synchronized void addFluidTags(@Nonnull Fluid fluid, @Nonnull FluidTag... tags) {
+        Set<FluidTag> tagSet = entries.get(fluid);
+        if (tagSet == null) {
+            GrowthcraftLogger.getLogger(Reference.MODID).debug("Initializing new tag set for fluid {}", fluid);
+            tagSet = new LinkedHashSet<FluidTag>();
+            entries.put(fluid, tagSet);
+        }
         for (FluidTag tag : tags) {
-            GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding tag '%s' to fluid {%s}", tag, fluid);
+            GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding tag '{}' to fluid {}", tag, fluid);
             tagSet.add(tag);
-            if (!tagToFluidsMap.containsKey(tag)) {
-                tagToFluidsMap.put(tag, new HashSet<Fluid>());
-            }
-            tagToFluidsMap.get(tag).add(fluid);
         }
+        this.tables = new Tables(entries);
     }
 
+    /**
+     * @param fluid - fluid to get the tags of
+     * @return the tags in the order they were created, null if the fluid has none
+     */
     //	@Override
     public Collection<FluidTag> getFluidTags(@Nullable Fluid fluid) {
         if (fluid == null) return null;
-        return fluidToTagsMap.get(fluid);
+        final Tables t = tables;
+        final int f = t.fluidIds.getInt(fluid);
+        return f >= 0 ? t.tagLists.get(f) : null;
     }
 
     //	@Override
@@ -53,30 +197,33 @@ public class FluidDictionary {
     }
 
     //	@Override
-    public boolean hasFluidTags(@Nonnull Fluid fluid, @Nonnull FluidTag... tags) {
-        final Set<FluidTag> fluidTags = fluidToTagsMap.get(fluid);
-        if (fluidTags == null) return false;
+    public boolean hasFluidTags(@Nullable Fluid fluid, @Nonnull FluidTag... tags) {
+        final Tables t = tables;
+        final int f = t.fluidIds.getInt(fluid);
+        if (f < 0) return false;
         for (FluidTag tag : tags) {
-            if (!fluidTags.contains(tag)) return false;
+            if (!t.hasTag(f, tag)) return false;
         }
         return true;
     }
 
+    /**
+     * @param tags - tags the fluids must all have
+     * @return read only set of the fluids, empty if no tags were given
+     */
     //	@Override
     public Collection<Fluid> getFluidsByTags(@Nonnull List<FluidTag> tags) {
-        final Set<Fluid> fluids = new HashSet<Fluid>();
-        if (tags.size() > 0) {
-            final Set<Fluid> prim = tagToFluidsMap.get(tags.get(0));
-            if (prim != null) {
-                fluids.addAll(prim);
-                for (int i = 1; i < tags.size(); ++i) {
-                    if (fluids.isEmpty()) break;
-                    final Set<Fluid> exc = tagToFluidsMap.get(tags.get(i));
-                    fluids.retainAll(exc);
-                }
-            }
+        if (tags.isEmpty()) return Collections.emptySet();
+        final Tables t = tables;
+        final FluidTag first = tags.get(0);
+        if (first == null || first.getOrdinal() >= t.fluidSets.size()) return Collections.emptySet();
+        if (tags.size() == 1) return t.fluidSets.get(first.getOrdinal());
+
+        final long[] mask = Arrays.copyOfRange(t.tagFluids, first.getOrdinal() * t.fluidWords, (first.getOrdinal() + 1) * t.fluidWords);
+        for (int i = 1; i < tags.size(); ++i) {
+            if (!t.retainTag(mask, tags.get(i))) return Collections.emptySet();
         }
-        return fluids;
+        return new FluidSet(t, mask);
     }
 
     //	@Override
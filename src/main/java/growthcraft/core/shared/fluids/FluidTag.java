@@ -1,5 +1,7 @@
 package growthcraft.core.shared.fluids;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.Nonnull;
 
 import net.minecraft.util.text.translation.I18n;
@@ -7,7 +9,10 @@ import net.minecraft.util.text.translation.I18n;
 public class FluidTag {
     // REVISE_ME 0
 
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
     private final String name;
+    private final int ordinal = NEXT_ORDINAL.getAndIncrement();
 
     public FluidTag(@Nonnull String n) {
         this.name = n;
@@ -17,6 +22,13 @@ public class FluidTag {
         return name;
     }
 
+    /**
+     * @return the tag's number, tags are numbered from 0 in the order they were created
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     public String getUnlocalizedName() {
         return "fluids.tag." + getName();
     }
@@ -1,5 +1,9 @@
 package growthcraft.core.shared.fluids;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import growthcraft.core.shared.io.nbt.INBTSerializableContext;
 import growthcraft.core.shared.io.stream.IStreamable;
 import growthcraft.core.shared.io.stream.StreamUtils;
@@ -16,38 +20,67 @@ public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStream
     // REVISE_ME Multiple tanks are already supported by MC1.11.2 or newer. Remove this one!
 
     private FluidTank[] tanks;
+    // built for these tanks, rebuilt if one of them was replaced in the array
+    private FluidTank[] viewedTanks;
+    private IFluidTankProperties[] tankProperties;
+    private FluidTankInfo[] tankInfos;
 
     public FluidTanks(FluidTank[] ts) {
         this.tanks = ts;
     }
 
+    private void updateViews() {
+        if (viewedTanks != null && viewedTanks.length == tanks.length) {
+            boolean changed = false;
+            for (int i = 0; i < tanks.length && !changed; ++i) {
+                changed = viewedTanks[i] != tanks[i];
+            }
+            if (!changed) return;
+        }
+
+        // the tanks' properties are live views, so they are only asked for once
+        final List<IFluidTankProperties> props = new ArrayList<IFluidTankProperties>();
+        for (FluidTank tank : tanks) {
+            props.addAll(Arrays.asList(tank.getTankProperties()));
+        }
+        this.tankProperties = props.toArray(new IFluidTankProperties[0]);
+        this.tankInfos = new FluidTankInfo[tanks.length];
+        this.viewedTanks = tanks.clone();
+    }
+
     public int getTankCount() {
         return tanks.length;
     }
 
+    /**
+     * The array is reused between calls and must not be changed. An info only holds the tank's
+     * fluid stack, so it's replaced once the tank got a different stack or capacity.
+     *
+     * @param from - side, ignored
+     * @return info of each tank
+     */
     public FluidTankInfo[] getTankInfo(EnumFacing from) {
-        final FluidTankInfo[] tankInfos = new FluidTankInfo[tanks.length];
+        updateViews();
+        final FluidTankInfo[] infos = tankInfos;
         for (int i = 0; i < tanks.length; ++i) {
-            tankInfos[i] = tanks[i].getInfo();
+            final FluidTankInfo info = infos[i];
+            if (info == null || info.fluid != tanks[i].getFluid() || info.capacity != tanks[i].getCapacity()) {
+                infos[i] = tanks[i].getInfo();
+            }
         }
-        return tankInfos;
+        return infos;
     }
 
+    /**
+     * The array is reused between calls and must not be changed, its properties always show
+     * the tanks' current contents.
+     *
+     * @param from - side, ignored
+     * @return properties of all tanks
+     */
     public IFluidTankProperties[] getTankProperties(EnumFacing from) {
-        // count tank properties from all tanks
-        int propCount = 0;
-        for (FluidTank tank : tanks)
-            propCount += tank.getTankProperties().length;
-        IFluidTankProperties[] summedProps = new IFluidTankProperties[propCount];
-
-        int i = 0;
-        for (FluidTank tank : tanks) {
-            for (IFluidTankProperties prop : tank.getTankProperties()) {
-                summedProps[i++] = prop;
-            }
-        }
-
-        return summedProps;
+        updateViews();
+        return tankProperties;
     }
 
     @Override
@@ -1,40 +1,96 @@
 package growthcraft.core.shared.fluids;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 /**
  * Fluid identification has changed to strings for never MC version.
  * But an internal ID handling is still necessary, to transfer IDs between server & client.<br/>
+ * <p>
+ * The ids are Forge's session ids, which the server sends to the client on login, kept in
+ * one shared table: an array indexed by id and an identity map back. The table is rebuilt
+ * lazily after a fluid is registered and whenever a world loads, as the server's id
+ * assignment (from the save or from the server the client joined) is in place by then.
  *
  * <b>Warning: IDs are internal! Strings should be used for NBT instead.</b>
  */
 public class InternalFluidIDHandler {
-    private Map<Fluid, Integer> fluidToId = null;
-    private HashMap<Integer, Fluid> idToFluid = null;
+    private static final InternalFluidIDHandler INSTANCE = new InternalFluidIDHandler();
+
+    static class Table {
+        final Fluid[] byId;
+        final Reference2IntOpenHashMap<Fluid> toId;
+
+        Table(Map<Fluid, Integer> ids) {
+            int max = -1;
+            for (Integer id : ids.values()) {
+                max = Math.max(max, id);
+            }
+            this.byId = new Fluid[max + 1];
+            this.toId = new Reference2IntOpenHashMap<Fluid>(ids.size());
+            toId.defaultReturnValue(-1);
+            for (Map.Entry<Fluid, Integer> entry : ids.entrySet()) {
+                byId[entry.getValue()] = entry.getKey();
+                toId.put(entry.getKey(), entry.getValue().intValue());
+            }
+        }
+    }
+
+    private volatile Table table;
 
-    private void maybeInitFluidMapping() {
-        if (fluidToId != null)
-            return;
+    private InternalFluidIDHandler() {
+    }
 
-        fluidToId = FluidRegistry.getRegisteredFluidIDs();
-        idToFluid = new HashMap<Integer, Fluid>();
+    public static InternalFluidIDHandler instance() {
+        return INSTANCE;
+    }
 
-        for (Map.Entry<Fluid, Integer> entry : fluidToId.entrySet())
-            idToFluid.put(entry.getValue(), entry.getKey());
+    private Table getTable() {
+        Table t = table;
+        if (t == null) {
+            t = new Table(FluidRegistry.getRegisteredFluidIDs());
+            this.table = t;
+        }
+        return t;
     }
 
+    /**
+     * @param ID - internal id
+     * @return the fluid, null for unknown ids
+     */
+    @Nullable
     public Fluid getFluidByInternalID(int ID) {
-        maybeInitFluidMapping();
-        return idToFluid.get(ID);
+        final Fluid[] byId = getTable().byId;
+        return ID >= 0 && ID < byId.length ? byId[ID] : null;
+    }
+
+    /**
+     * @param fluid - fluid
+     * @return the internal id, -1 for null and unregistered fluids
+     */
+    public int getInternalIDByFluid(@Nullable Fluid fluid) {
+        if (fluid == null) return -1;
+        return getTable().toId.getInt(fluid);
     }
 
-    public int getInternalIDByFluid(Fluid fluid) {
-        maybeInitFluidMapping();
-        return fluidToId.get(fluid);
+    public void invalidate() {
+        this.table = null;
     }
 
+    @SubscribeEvent
+    public void onFluidRegister(FluidRegistry.FluidRegisterEvent event) {
+        invalidate();
+    }
+
+    @SubscribeEvent
+    public void onWorldLoad(WorldEvent.Load event) {
+        invalidate();
+    }
 }
@@ -5,9 +5,14 @@ import growthcraft.core.shared.inventory.slot.SlotPlayer;
 import growthcraft.core.shared.inventory.slot.SlotPlayerBackpack;
 import growthcraft.core.shared.inventory.slot.SlotPlayerHotbar;
 import growthcraft.core.shared.item.ItemUtils;
+import growthcraft.core.shared.network.GrowthcraftNetwork;
+import growthcraft.core.shared.network.PacketGuiNetworkSync;
 import growthcraft.core.shared.tileentity.feature.IGuiNetworkSync;
 import growthcraft.core.shared.utils.Platform;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.IContainerListener;
 import net.minecraft.inventory.IInventory;
@@ -17,15 +22,28 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 public class GrowthcraftContainer extends Container {
     protected static final int SLOT_W = 18;
     protected static final int SLOT_H = 18;
 
     protected TileEntity tileEntity;
+    // Values the tile syncs to the GUI, null if it doesn't sync any
+    private GuiNetworkSync guiSync;
+    // What each listener was last sent
+    private final Map<IContainerListener, int[]> guiSyncSent = new IdentityHashMap<IContainerListener, int[]>();
+    // reused for every listener and tick, the payload is copied out of it
+    private ByteBuf guiSyncBuffer;
 
     public GrowthcraftContainer(TileEntity te) {
         super();
         this.tileEntity = te;
+        if (te instanceof IGuiNetworkSync) {
+            this.guiSync = new GuiNetworkSync();
+            ((IGuiNetworkSync) te).addGuiNetworkSyncValues(guiSync);
+        }
     }
 
     public boolean mergeWithSlot(Slot slot, ItemStack stack) {
@@ -169,31 +187,50 @@ public class GrowthcraftContainer extends Container {
     @Override
     public void addListener(IContainerListener iCrafting) {
         super.addListener(iCrafting);
-        if (tileEntity instanceof IGuiNetworkSync) {
-            ((IGuiNetworkSync) tileEntity).sendGUINetworkData(this, iCrafting);
-        }
+        if (guiSync != null) sendGuiNetworkSync(guiSync.getValues());
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void removeListener(IContainerListener listener) {
+        super.removeListener(listener);
+        guiSyncSent.remove(listener);
+    }
+
+    @Override
+    public void onContainerClosed(EntityPlayer player) {
+        super.onContainerClosed(player);
+        // removeListener is client only, server players (the listeners) leave through here
+        guiSyncSent.remove(player);
     }
 
     @Override
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
+        if (guiSync != null && !listeners.isEmpty()) sendGuiNetworkSync(guiSync.getValues());
+    }
 
-        if (tileEntity instanceof IGuiNetworkSync) {
-            final IGuiNetworkSync sync = (IGuiNetworkSync) tileEntity;
-            for (Object crafter : listeners) {
-                if (crafter instanceof IContainerListener) {
-                    sync.sendGUINetworkData(this, (IContainerListener) crafter);
-                }
-            }
+    private void sendGuiNetworkSync(int[] values) {
+        for (IContainerListener listener : listeners) {
+            if (!(listener instanceof EntityPlayerMP)) continue;
+            if (guiSyncBuffer == null) this.guiSyncBuffer = Unpooled.buffer();
+            final ByteBuf stream = guiSyncBuffer.clear();
+            final int[] sent = guiSync.writeChanges(stream, values, guiSyncSent.get(listener));
+            if (sent == null) continue;
+            guiSyncSent.put(listener, sent);
+            final byte[] payload = new byte[stream.readableBytes()];
+            stream.readBytes(payload);
+            GrowthcraftNetwork.channel().sendTo(new PacketGuiNetworkSync(windowId, payload), (EntityPlayerMP) listener);
         }
     }
 
-    @Override
+    /**
+     * Applies the values sent by the server's container, client side.
+     *
+     * @param stream - the packet's payload
+     */
     @SideOnly(Side.CLIENT)
-    public void updateProgressBar(int id, int v) {
-        super.updateProgressBar(id, v);
-        if (tileEntity instanceof IGuiNetworkSync) {
-            ((IGuiNetworkSync) tileEntity).receiveGUINetworkData(id, v);
-        }
+    public void receiveGuiNetworkSync(ByteBuf stream) {
+        if (guiSync != null) guiSync.readChanges(stream);
     }
 }
@@ -0,0 +1,159 @@
+package growthcraft.core.shared.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import growthcraft.core.shared.fluids.InternalFluidIDHandler;
+import growthcraft.core.shared.io.stream.StreamUtils;
+import growthcraft.core.shared.tileentity.feature.IGuiNetworkSync;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+
+/**
+ * The values a GUI shows, synced from the server tile to the client tile while the container
+ * is open.
+ * <p>
+ * The tile lists its values once per container and on both sides, see
+ * {@link IGuiNetworkSync#addGuiNetworkSyncValues(GuiNetworkSync)}, so the values are
+ * identified by their position in the list. Every value is an int, the server keeps the last
+ * values it sent to each listener and only sends the changed ones: a varint count, then a
+ * varint gap to the previous index and a zigzag varint value for each.
+ */
+public class GuiNetworkSync {
+    static class TankValues {
+        final FluidTank tank;
+        int fluidId;
+        int amount;
+        boolean changed;
+
+        TankValues(FluidTank tank) {
+            this.tank = tank;
+        }
+
+        void apply() {
+            if (!changed) return;
+            this.changed = false;
+            final FluidStack current = tank.getFluid();
+            final Fluid fluid = InternalFluidIDHandler.instance().getFluidByInternalID(fluidId - 1);
+            if (fluid == null || amount <= 0) {
+                tank.setFluid(null);
+            } else if (current != null && current.getFluid() == fluid) {
+                // keeps the tags the tile's own sync brought along
+                current.amount = amount;
+            } else {
+                tank.setFluid(new FluidStack(fluid, amount));
+            }
+        }
+    }
+
+    private final List<IntSupplier> getters = new ArrayList<IntSupplier>();
+    private final List<IntConsumer> setters = new ArrayList<IntConsumer>();
+    private final List<TankValues> tanks = new ArrayList<TankValues>();
+
+    /**
+     * @param getter - reads the value on the server
+     * @param setter - sets the value on the client
+     * @return this
+     */
+    public GuiNetworkSync addInt(@Nonnull IntSupplier getter, @Nonnull IntConsumer setter) {
+        getters.add(getter);
+        setters.add(setter);
+        return this;
+    }
+
+    /**
+     * The fluid and its amount, the fluid's tags are left to the tile's own sync.
+     *
+     * @param tank - tank to sync
+     * @return this
+     */
+    public GuiNetworkSync addFluidTank(@Nonnull FluidTank tank) {
+        final TankValues values = new TankValues(tank);
+        tanks.add(values);
+        addInt(() -> {
+            final FluidStack stack = tank.getFluid();
+            return stack != null ? InternalFluidIDHandler.instance().getInternalIDByFluid(stack.getFluid()) + 1 : 0;
+        }, v -> {
+            values.fluidId = v;
+            values.changed = true;
+        });
+        addInt(() -> {
+            final FluidStack stack = tank.getFluid();
+            return stack != null ? stack.amount : 0;
+        }, v -> {
+            values.amount = v;
+            values.changed = true;
+        });
+        return this;
+    }
+
+    public int size() {
+        return getters.size();
+    }
+
+    /**
+     * @return the current values, server side
+     */
+    public int[] getValues() {
+        final int[] values = new int[getters.size()];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = getters.get(i).getAsInt();
+        }
+        return values;
+    }
+
+    /**
+     * Writes the values which differ from the last sent ones and remembers them as sent.
+     *
+     * @param stream - stream to write to
+     * @param values - current values, from {@link #getValues()}
+     * @param sent   - values last sent to the listener, null if nothing was sent yet
+     * @return the values now known to the listener, null if there was nothing to write
+     */
+    @Nullable
+    public int[] writeChanges(@Nonnull ByteBuf stream, @Nonnull int[] values, @Nullable int[] sent) {
+        int count = 0;
+        for (int i = 0; i < values.length; ++i) {
+            if (sent == null || sent[i] != values[i]) count++;
+        }
+        if (count == 0) return null;
+
+        StreamUtils.writeVarInt(stream, count);
+        int last = -1;
+        for (int i = 0; i < values.length; ++i) {
+            if (sent == null || sent[i] != values[i]) {
+                StreamUtils.writeVarInt(stream, i - last - 1);
+                StreamUtils.writeSignedVarInt(stream, values[i]);
+                last = i;
+            }
+        }
+        if (sent == null) return values.clone();
+        System.arraycopy(values, 0, sent, 0, values.length);
+        return sent;
+    }
+
+    /**
+     * Applies values written by {@link #writeChanges(ByteBuf, int[], int[])}, client side.
+     *
+     * @param stream - stream to read from
+     */
+    public void readChanges(@Nonnull ByteBuf stream) {
+        final int count = StreamUtils.readVarInt(stream);
+        int index = -1;
+        for (int n = 0; n < count; ++n) {
+            index += StreamUtils.readVarInt(stream) + 1;
+            final int value = StreamUtils.readSignedVarInt(stream);
+            if (index >= 0 && index < setters.size()) setters.get(index).accept(value);
+        }
+        for (TankValues tank : tanks) {
+            tank.apply();
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package growthcraft.core.shared.io.stream;
 
-import java.io.UnsupportedEncodingException;
-
-import growthcraft.core.shared.io.ConstID;
+import growthcraft.core.shared.fluids.InternalFluidIDHandler;
 import io.netty.buffer.ByteBuf;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
@@ -17,49 +14,126 @@ public class StreamUtils {
     }
 
     /**
-     * Reads an ASCII string from the stream, the first int should be the length
-     * of the string.
+     * Reads an ASCII string from the stream, prefixed by its length as a varint.
      *
      * @param stream - stream to read from
      * @return string
      */
     public static String readStringASCII(ByteBuf stream) {
-        final int len = stream.readInt();
-        final byte[] bytes = new byte[len];
-        try {
-            stream.readBytes(bytes);
-            return new String(bytes, "US-ASCII");
-        } catch (UnsupportedEncodingException e) {
-            // Should never happen!
-            return new String(bytes);
+        final int len = readVarInt(stream);
+        final char[] chars = new char[len];
+        for (int i = 0; i < len; ++i) {
+            chars[i] = (char) (stream.readByte() & 0x7F);
         }
+        return new String(chars);
     }
 
     /**
-     * Writes an ASCII string to the stream, the first value will be an integer for the length of the
-     * string, followed by bytes
+     * Reads an ASCII string written by {@link #writeStringASCII(ByteBuf, String)} which is
+     * expected to be one of a few known values, comparing the bytes in place instead of
+     * building a new string.
+     *
+     * @param stream     - stream to read from
+     * @param candidates - the known values
+     * @return the matching candidate, null if there is none (the string is skipped)
+     */
+    public static String readStringASCII(ByteBuf stream, String[] candidates) {
+        final int len = readVarInt(stream);
+        final int start = stream.readerIndex();
+        stream.skipBytes(len);
+        for (String candidate : candidates) {
+            if (candidate.length() != len) continue;
+            int i = 0;
+            while (i < len && stream.getByte(start + i) == (byte) candidate.charAt(i)) i++;
+            if (i == len) return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * Writes an ASCII string to the stream, its length as a varint followed by a byte per
+     * character, characters outside of ASCII are written as '?'
      *
      * @param stream - stream to write to
      * @param str    - string to write
      */
     public static void writeStringASCII(ByteBuf stream, String str) {
-        byte[] bytes;
-        try {
-            bytes = str.getBytes("US-ASCII");
-        } catch (UnsupportedEncodingException e) {
-            // Should never happen!
-            bytes = str.getBytes();
+        final int len = str.length();
+        writeVarInt(stream, len);
+        for (int i = 0; i < len; ++i) {
+            final char c = str.charAt(i);
+            stream.writeByte(c < 0x80 ? c : '?');
+        }
+    }
+
+    /**
+     * Writes an int as a variable length quantity, 7 bits per byte, low bits first.
+     * Small positive values take a single byte, negative values always take 5.
+     *
+     * @param stream - stream to write to
+     * @param value  - value to write
+     */
+    public static void writeVarInt(ByteBuf stream, int value) {
+        while ((value & ~0x7F) != 0) {
+            stream.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
         }
-        stream.writeInt(str.length());
-        stream.writeBytes(bytes);
+        stream.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(ByteBuf, int)}
+     *
+     * @param stream - stream to read from
+     * @return value
+     */
+    public static int readVarInt(ByteBuf stream) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift >= 35) throw new IllegalStateException("VarInt is too long");
+            b = stream.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Writes an int zigzag encoded, so small negative values take as few bytes as small positive ones.
+     *
+     * @param stream - stream to write to
+     * @param value  - value to write
+     */
+    public static void writeSignedVarInt(ByteBuf stream, int value) {
+        writeVarInt(stream, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads an int written by {@link #writeSignedVarInt(ByteBuf, int)}
+     *
+     * @param stream - stream to read from
+     * @return value
+     */
+    public static int readSignedVarInt(ByteBuf stream) {
+        final int value = readVarInt(stream);
+        return (value >>> 1) ^ -(value & 1);
     }
 
+    /**
+     * Fluids are sent by their session id (synced to the client by Forge on login),
+     * offset by one, so 0 means no fluid. The capacity and amount are varints.
+     *
+     * @param stream - stream to read from
+     * @param tank   - tank to read into
+     */
     public static void readFluidTank(ByteBuf stream, FluidTank tank) {
-        final int capacity = stream.readInt();
-        final String fluidIdName = readStringASCII(stream); // = stream.readInt();
-        final int fluidAmount = stream.readInt();
+        final int capacity = readVarInt(stream);
+        final int fluidId = readVarInt(stream) - 1;
+        final int fluidAmount = readVarInt(stream);
 
-        final Fluid fluid = !fluidIdName.equals(ConstID.NO_FLUID) ? FluidRegistry.getFluid(fluidIdName) : null;
+        final Fluid fluid = InternalFluidIDHandler.instance().getFluidByInternalID(fluidId);
         final FluidStack fluidStack = fluid != null ? new FluidStack(fluid, fluidAmount) : null;
 
         tank.setCapacity(capacity);
@@ -67,18 +141,18 @@ public class StreamUtils {
     }
 
     public static void writeFluidTank(ByteBuf stream, FluidTank tank) {
-        String fluidIdName = ConstID.NO_FLUID;
+        int fluidId = -1;
         int fluidAmount = 0;
         final int capacity = tank.getCapacity();
         final FluidStack fs = tank.getFluid();
 
-        if (fs != null) {
-            fluidIdName = fs.getFluid().getName();
+        if (fs != null && fs.getFluid() != null) {
+            fluidId = InternalFluidIDHandler.instance().getInternalIDByFluid(fs.getFluid());
             fluidAmount = fs.amount;
         }
 
-        stream.writeInt(capacity);
-        writeStringASCII(stream, fluidIdName);
-        stream.writeInt(fluidAmount);
+        writeVarInt(stream, capacity);
+        writeVarInt(stream, fluidId + 1);
+        writeVarInt(stream, fluidAmount);
     }
 }
@@ -2,15 +2,21 @@ package growthcraft.core.shared.item;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.core.shared.definition.IMultiItemStacks;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 public class MultiItemStacks implements IMultiItemStacks {
     private List<ItemStack> itemStacks;
+    // item to the accepted metadata, built on the first match
+    private volatile Map<Item, IntOpenHashSet> lookup;
 
     public static MultiItemStacks EMPTY = new MultiItemStacks();
 
@@ -44,12 +50,31 @@ public class MultiItemStacks implements IMultiItemStacks {
         return itemStacks;
     }
 
+    private Map<Item, IntOpenHashSet> getLookup() {
+        Map<Item, IntOpenHashSet> table = lookup;
+        if (table == null) {
+            table = new Reference2ObjectOpenHashMap<Item, IntOpenHashSet>(itemStacks.size());
+            for (ItemStack content : itemStacks) {
+                IntOpenHashSet metas = table.get(content.getItem());
+                if (metas == null) {
+                    metas = new IntOpenHashSet(2);
+                    table.put(content.getItem(), metas);
+                }
+                metas.add(content.getMetadata());
+            }
+            this.lookup = table;
+        }
+        return table;
+    }
+
+    /**
+     * Same as {@link ItemStack#isItemEqual(ItemStack)} against each content stack: the item and
+     * its metadata have to match.
+     */
     @Override
     public boolean containsItemStack(@Nullable ItemStack stack) {
         if (!ItemTest.isValid(stack)) return false;
-        for (ItemStack content : getItemStacks()) {
-            if (content.isItemEqual(stack)) return true;
-        }
-        return false;
+        final IntOpenHashSet metas = getLookup().get(stack.getItem());
+        return metas != null && metas.contains(stack.getMetadata());
     }
 }
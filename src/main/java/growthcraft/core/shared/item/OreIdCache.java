@@ -0,0 +1,77 @@
+package growthcraft.core.shared.item;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * The ore ids of item stacks, looked up once per item and metadata.
+ * <p>
+ * {@link OreDictionary#getOreIDs(ItemStack)} builds a new array on every call, so the ids are
+ * kept here as a bitset per item and metadata. Any ore registration may change the ids of a
+ * stack, all of them are dropped when one happens.
+ */
+public class OreIdCache {
+    private static final OreIdCache INSTANCE = new OreIdCache();
+    private static final BitSet NONE = new BitSet(0);
+
+    // metadata to ore ids per item, the inner maps are replaced rather than changed
+    private volatile Map<Item, Int2ObjectMap<BitSet>> items = new ConcurrentHashMap<Item, Int2ObjectMap<BitSet>>();
+    private volatile int generation;
+
+    private OreIdCache() {
+    }
+
+    public static OreIdCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return a number which changes whenever an ore was registered
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    private BitSet getOreIds(@Nonnull ItemStack stack) {
+        if (stack.isEmpty()) return NONE;
+        final Map<Item, Int2ObjectMap<BitSet>> current = items;
+        final Int2ObjectMap<BitSet> metas = current.get(stack.getItem());
+        BitSet ids = metas != null ? metas.get(stack.getMetadata()) : null;
+        if (ids == null) {
+            ids = new BitSet();
+            for (int id : OreDictionary.getOreIDs(stack)) {
+                ids.set(id);
+            }
+            final Int2ObjectMap<BitSet> copy = metas != null ? new Int2ObjectOpenHashMap<BitSet>(metas) : new Int2ObjectOpenHashMap<BitSet>(1);
+            copy.put(stack.getMetadata(), ids);
+            // a concurrent miss for the same item may drop this entry, it's just looked up again
+            current.put(stack.getItem(), copy);
+        }
+        return ids;
+    }
+
+    /**
+     * @param stack - stack to test
+     * @param oreId - id from {@link OreDictionary#getOreID(String)}
+     * @return true if the stack is registered under the ore id
+     */
+    public boolean hasOreId(@Nonnull ItemStack stack, int oreId) {
+        return oreId >= 0 && getOreIds(stack).get(oreId);
+    }
+
+    @SubscribeEvent
+    public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+        this.items = new ConcurrentHashMap<Item, Int2ObjectMap<BitSet>>();
+        this.generation++;
+    }
+}
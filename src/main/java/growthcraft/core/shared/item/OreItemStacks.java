@@ -10,12 +10,18 @@ import growthcraft.core.shared.definition.IMultiItemStacks;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
 
+/**
+ * All items of an ore name. The ore id is resolved once, matching a stack is a probe of the
+ * stack's cached ore ids, see {@link OreIdCache}.
+ */
 public class OreItemStacks implements IMultiItemStacks {
     public int stackSize;
-    private String oreName;
+    private final String oreName;
+    private final int oreId;
 
     public OreItemStacks(@Nonnull String name, int amount) {
         this.oreName = name;
+        this.oreId = OreDictionary.getOreID(name);
         this.stackSize = amount;
     }
 
@@ -41,10 +47,13 @@ public class OreItemStacks implements IMultiItemStacks {
         return getRawItemStacks().isEmpty();
     }
 
+    /**
+     * @return new copies of the ore's items, sized to the stack size
+     */
     @Override
     public List<ItemStack> getItemStacks() {
         final List<ItemStack> items = getRawItemStacks();
-        final List<ItemStack> result = new ArrayList<ItemStack>();
+        final List<ItemStack> result = new ArrayList<ItemStack>(items.size());
         for (ItemStack stack : items) {
             final ItemStack newStack = stack.copy();
             if (newStack.isEmpty()) newStack.setCount(1);
@@ -56,12 +65,6 @@ public class OreItemStacks implements IMultiItemStacks {
 
     @Override
     public boolean containsItemStack(@Nullable ItemStack stack) {
-        if (ItemTest.isValid(stack)) {
-            final int oreId = OreDictionary.getOreID(oreName);
-            for (int i : OreDictionary.getOreIDs(stack)) {
-                if (i == oreId) return true;
-            }
-        }
-        return false;
+        return ItemTest.isValid(stack) && OreIdCache.instance().hasOreId(stack, oreId);
     }
 }
\ No newline at end of file
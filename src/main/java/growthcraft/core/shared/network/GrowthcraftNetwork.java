@@ -0,0 +1,28 @@
+package growthcraft.core.shared.network;
+
+import growthcraft.core.shared.Reference;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Network channel of the core module.
+ */
+public class GrowthcraftNetwork {
+    private static SimpleNetworkWrapper channel;
+
+    private GrowthcraftNetwork() {
+    }
+
+    /**
+     * Call it from FMLPreInitializationEvent
+     */
+    public static void init() {
+        channel = NetworkRegistry.INSTANCE.newSimpleChannel(Reference.MODID);
+        channel.registerMessage(PacketGuiNetworkSync.Handler.class, PacketGuiNetworkSync.class, 0, Side.CLIENT);
+    }
+
+    public static SimpleNetworkWrapper channel() {
+        return channel;
+    }
+}
@@ -0,0 +1,63 @@
+package growthcraft.core.shared.network;
+
+import growthcraft.core.shared.inventory.GrowthcraftContainer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * The changed GUI values of an open {@link GrowthcraftContainer}, see
+ * {@link growthcraft.core.shared.inventory.GuiNetworkSync}.
+ */
+public class PacketGuiNetworkSync implements IMessage {
+    private int windowId;
+    private byte[] payload;
+
+    public PacketGuiNetworkSync() {
+    }
+
+    public PacketGuiNetworkSync(int windowId, byte[] payload) {
+        this.windowId = windowId;
+        this.payload = payload;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        this.windowId = buf.readUnsignedByte();
+        this.payload = new byte[buf.readableBytes()];
+        buf.readBytes(payload);
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeByte(windowId);
+        buf.writeBytes(payload);
+    }
+
+    public static class Handler implements IMessageHandler<PacketGuiNetworkSync, IMessage> {
+        @Override
+        public IMessage onMessage(PacketGuiNetworkSync message, MessageContext ctx) {
+            handleClientSide(message);
+            return null;
+        }
+
+        @SideOnly(Side.CLIENT)
+        private void handleClientSide(PacketGuiNetworkSync message) {
+            final Minecraft mc = Minecraft.getMinecraft();
+            mc.addScheduledTask(() -> {
+                final EntityPlayer player = mc.player;
+                if (player == null || player.openContainer == null) return;
+                if (player.openContainer.windowId != message.windowId) return;
+                if (player.openContainer instanceof GrowthcraftContainer) {
+                    ((GrowthcraftContainer) player.openContainer).receiveGuiNetworkSync(Unpooled.wrappedBuffer(message.payload));
+                }
+            });
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package growthcraft.core.shared.tileentity;
 
-import java.util.List;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.Reference;
 import growthcraft.core.shared.block.BlockFlags;
 import growthcraft.core.shared.io.nbt.IAltNBTSerializable;
 import growthcraft.core.shared.io.stream.IStreamable;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.tileentity.event.TileEventFunction;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.event.TileEventHandlerMap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
@@ -20,6 +22,7 @@ import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.fml.common.registry.GameRegistry;
 
 /**
  * Extend this base class if you just need a Base tile with the event system.
@@ -27,16 +30,85 @@ import net.minecraftforge.common.capabilities.Capability;
  * Event handling system is a stripped version of the one seen in AE2, I've
  * copied the code for use in YATM, but I've ported it over to Growthcraft as
  * well.
+ * <p>
+ * Network sync: every NETWORK_WRITE handler is a section of the stream, the
+ * stream starts with a varint mask of the sections it contains. Update packets
+ * only carry the sections whose bytes changed since the last packet, the client
+ * already has the rest (from a previous packet or the chunk's update tag).
+ * NETWORK_READ handlers are paired with the NETWORK_WRITE handlers by position,
+ * so name them alike (i.e. readFromStream_Foo / writeToStream_Foo).
  */
 public abstract class GrowthcraftTileBase extends TileEntity implements IStreamable, IAltNBTSerializable {
     protected static TileEventHandlerMap<GrowthcraftTileBase> HANDLERS = new TileEventHandlerMap<GrowthcraftTileBase>();
 
+    // Bytes of each NETWORK_WRITE section as last sent in an update packet, null if nothing was sent yet
+    private byte[][] syncedSections;
+    // State of the TileUpdateCoalescer
+    boolean updateQueued;
+    long lastUpdateTick = -1;
+    // State of the TileWakeScheduler, the tick of the pending wake or -1
+    long scheduledWake = -1;
+    // State of the TileSleepManager
+    byte sleepState = TileSleepManager.AWAKE;
+    long sleptAt;
+
+    /**
+     * Registers the tile entity and compiles its event handlers right away, if it has any
+     * (only subclasses of this class do).
+     *
+     * @param klass - tile class
+     * @param key   - registry key
+     */
+    public static void registerTileEntity(@Nonnull Class<? extends TileEntity> klass, @Nonnull String key) {
+        GameRegistry.registerTileEntity(klass, key);
+        if (GrowthcraftTileBase.class.isAssignableFrom(klass)) {
+            HANDLERS.prepare(klass.asSubclass(GrowthcraftTileBase.class));
+        }
+    }
+
+    /**
+     * Requests a block update for the tile, on the server it's sent at the end of the tick,
+     * see {@link TileUpdateCoalescer}.
+     */
     public void markForUpdate() {
+        if (world != null && !world.isRemote) {
+            TileUpdateCoalescer.instance().enqueue(this);
+        } else {
+            markForUpdateNow();
+        }
+    }
+
+    public void markForUpdateNow() {
         IBlockState curState = getWorld().getBlockState(pos);
         world.markBlockRangeForRenderUpdate(pos, pos);
         world.notifyBlockUpdate(pos, curState, curState, BlockFlags.UPDATE_AND_SYNC);
     }
 
+    /**
+     * Asks to be taken out of the tickable list at the end of the tick, call it last in update()
+     * when there's nothing to do, see {@link TileSleepManager}. Only server side ITickable tiles sleep.
+     */
+    protected void sleep() {
+        TileSleepManager.instance().sleep(this);
+    }
+
+    public void wake() {
+        TileSleepManager.instance().wake(this);
+    }
+
+    public boolean isSleeping() {
+        return sleepState == TileSleepManager.ASLEEP || sleepState == TileSleepManager.WAKE_PENDING;
+    }
+
+    /**
+     * Changes to the tile may have given it work, so it's woken as well.
+     */
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        wake();
+    }
+
     public void markDirtyAndUpdate() {
         markDirty();
         markForUpdate();
@@ -49,45 +121,113 @@ public abstract class GrowthcraftTileBase extends TileEntity implements IStreama
         return super.hasCapability(capability, facing);
     }
 
-    protected List<TileEventFunction> getHandlersFor(@Nonnull TileEventHandler.EventType event) {
+    protected TileEventFunction[] getHandlersFor(@Nonnull TileEventHandler.EventType event) {
         return HANDLERS.getEventFunctionsForClass(getClass(), event);
     }
 
     @Override
     public final boolean writeToStream(ByteBuf stream) {
-        final List<TileEventFunction> handlers = getHandlersFor(TileEventHandler.EventType.NETWORK_WRITE);
-        if (handlers != null) {
-            for (TileEventFunction func : handlers) {
-                func.writeToStream(this, stream);
+        writeSectionsToStream(stream, false);
+        return false;
+    }
+
+    /**
+     * Writes the section mask followed by the sections.
+     *
+     * @param stream - stream to write to
+     * @param delta  - only write the sections which changed since the last update packet
+     * @return true if at least one section was written
+     */
+    private boolean writeSectionsToStream(ByteBuf stream, boolean delta) {
+        final TileEventFunction[] handlers = getHandlersFor(TileEventHandler.EventType.NETWORK_WRITE);
+        if (handlers.length > Integer.SIZE) {
+            throw new IllegalStateException("Too many NETWORK_WRITE handlers in " + getClass() + ", at most " + Integer.SIZE + " are supported");
+        }
+        if (delta && (syncedSections == null || syncedSections.length != handlers.length)) {
+            this.syncedSections = new byte[handlers.length][];
+        }
+
+        final ByteBuf sections = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        try {
+            int mask = 0;
+            for (int i = 0; i < handlers.length; ++i) {
+                final int start = sections.writerIndex();
+                handlers[i].writeToStream(this, sections);
+                if (delta && !updateSyncedSection(i, sections, start)) {
+                    // unchanged, drop it
+                    sections.writerIndex(start);
+                } else {
+                    mask |= 1 << i;
+                }
             }
+            StreamUtils.writeVarInt(stream, mask);
+            stream.writeBytes(sections);
+            return mask != 0;
+        } finally {
+            sections.release();
         }
-        return false;
+    }
+
+    /**
+     * @return true if the section's bytes differ from the last sent ones, the new bytes are remembered
+     */
+    private boolean updateSyncedSection(int index, ByteBuf sections, int start) {
+        final int length = sections.writerIndex() - start;
+        byte[] synced = syncedSections[index];
+        if (synced != null && synced.length == length) {
+            boolean same = true;
+            for (int i = 0; i < length; ++i) {
+                if (synced[i] != sections.getByte(start + i)) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) return false;
+        } else {
+            synced = new byte[length];
+            syncedSections[index] = synced;
+        }
+        sections.getBytes(start, synced);
+        return true;
+    }
+
+    /**
+     * Forgets what was sent to clients, the next update packet will contain every section.
+     */
+    protected void resetNetworkSync() {
+        this.syncedSections = null;
     }
 
     @Override
     @Nullable
     public SPacketUpdateTileEntity getUpdatePacket() {
         final NBTTagCompound data = new NBTTagCompound();
-        final ByteBuf stream = Unpooled.buffer();
+        final ByteBuf stream = PooledByteBufAllocator.DEFAULT.heapBuffer();
 
         try {
-            writeToStream(stream);
-            if (stream.readableBytes() == 0) {
+            if (!writeSectionsToStream(stream, true)) {
                 return null;
             }
+            final byte[] payload = new byte[stream.readableBytes()];
+            stream.readBytes(payload);
+            // P, for payload
+            data.setByteArray("P", payload);
         } catch (Throwable t) {
-            System.err.println(t);
+            GrowthcraftLogger.getLogger(Reference.MODID).error("Could not write update packet for " + this, t);
+            resetNetworkSync();
+            return null;
+        } finally {
+            stream.release();
         }
 
-
-        // P, for payload
-        data.setByteArray("P", stream.array());
-
         return new SPacketUpdateTileEntity(pos, 127, data);
     }
 
     @Override
     public NBTTagCompound getUpdateTag() {
+        // the update tag is sent with the chunk and may be newer than what the other clients have,
+        // so the next update packet has to bring everyone back to the same state
+        resetNetworkSync();
         NBTTagCompound tag = super.getUpdateTag();
         return writeToNBT(tag);
     }
@@ -95,12 +235,12 @@ public abstract class GrowthcraftTileBase extends TileEntity implements IStreama
     @Override
     public final boolean readFromStream(ByteBuf stream) {
         boolean shouldUpdate = false;
-        final List<TileEventFunction> handlers = getHandlersFor(TileEventHandler.EventType.NETWORK_READ);
-        if (handlers != null) {
-            for (TileEventFunction func : handlers) {
-                if (func.readFromStream(this, stream)) {
-                    shouldUpdate = true;
-                }
+        final TileEventFunction[] handlers = getHandlersFor(TileEventHandler.EventType.NETWORK_READ);
+        final int mask = StreamUtils.readVarInt(stream);
+        for (int i = 0; i < handlers.length; ++i) {
+            if ((mask & (1 << i)) == 0) continue;
+            if (handlers[i].readFromStream(this, stream)) {
+                shouldUpdate = true;
             }
         }
         return shouldUpdate;
@@ -112,7 +252,7 @@ public abstract class GrowthcraftTileBase extends TileEntity implements IStreama
             final NBTTagCompound tag = packet.getNbtCompound();
             boolean dirty = false;
             if (tag != null) {
-                final ByteBuf stream = Unpooled.copiedBuffer(tag.getByteArray("P"));
+                final ByteBuf stream = Unpooled.wrappedBuffer(tag.getByteArray("P"));
                 if (readFromStream(stream)) {
                     dirty = true;
                 }
@@ -130,22 +270,18 @@ public abstract class GrowthcraftTileBase extends TileEntity implements IStreama
     @Override
     public final void readFromNBT(NBTTagCompound nbt) {
         super.readFromNBT(nbt);
-        final List<TileEventFunction> handlers = getHandlersFor(TileEventHandler.EventType.NBT_READ);
-        if (handlers != null) {
-            for (TileEventFunction func : handlers) {
-                func.readFromNBT(this, nbt);
-            }
+        final TileEventFunction[] handlers = getHandlersFor(TileEventHandler.EventType.NBT_READ);
+        for (TileEventFunction func : handlers) {
+            func.readFromNBT(this, nbt);
         }
     }
 
     @Override
     public final NBTTagCompound writeToNBT(NBTTagCompound nbt) {
         super.writeToNBT(nbt);
-        final List<TileEventFunction> handlers = getHandlersFor(TileEventHandler.EventType.NBT_WRITE);
-        if (handlers != null) {
-            for (TileEventFunction func : handlers) {
-                func.writeToNBT(this, nbt);
-            }
+        final TileEventFunction[] handlers = getHandlersFor(TileEventHandler.EventType.NBT_WRITE);
+        for (TileEventFunction func : handlers) {
+            func.writeToNBT(this, nbt);
         }
 
         return nbt;
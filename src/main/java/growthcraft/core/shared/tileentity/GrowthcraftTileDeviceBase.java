@@ -26,6 +26,7 @@ import net.minecraftforge.fluids.capability.IFluidTankProperties;
  */
 public abstract class GrowthcraftTileDeviceBase extends GrowthcraftTileInventoryBase implements IFluidTankOperable, IFluidTanks {
     private FluidTanks tanks;
+    private FluidHandlerBlockWrapper[] fluidHandlers;
 
     public GrowthcraftTileDeviceBase() {
         super();
@@ -179,18 +180,39 @@ public abstract class GrowthcraftTileDeviceBase extends GrowthcraftTileInventory
         markFluidDirty();
     }
 
+    /**
+     * @param facing - side the handler is requested from, null is treated as UP
+     * @return the fluid handler for the side, created once per tile and side
+     */
+    protected FluidHandlerBlockWrapper getFluidHandler(@Nullable EnumFacing facing) {
+        if (facing == null) {
+            facing = EnumFacing.UP;
+        }
+        if (fluidHandlers == null) {
+            this.fluidHandlers = new FluidHandlerBlockWrapper[EnumFacing.VALUES.length];
+        }
+        FluidHandlerBlockWrapper handler = fluidHandlers[facing.getIndex()];
+        if (handler == null) {
+            handler = new FluidHandlerBlockWrapper(this, facing);
+            fluidHandlers[facing.getIndex()] = handler;
+        }
+        return handler;
+    }
+
+    @Override
+    public boolean hasCapability(Capability<?> capability, @Nullable EnumFacing facing) {
+        if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY)
+            return true;
+        return super.hasCapability(capability, facing);
+    }
+
     @SuppressWarnings("unchecked")
     @Nullable
     @Override
     public <T> T getCapability(Capability<T> capability, @Nullable EnumFacing facing) {
 
         if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY) {
-
-            if (facing == null) {
-                facing = EnumFacing.UP;
-            }
-
-            return (T) new FluidHandlerBlockWrapper(this, facing);
+            return (T) getFluidHandler(facing);
         }
 
         return super.getCapability(capability, facing);
@@ -0,0 +1,237 @@
+package growthcraft.core.shared.tileentity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.Reference;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+/**
+ * Takes idle tiles out of the world's tickable list and puts them back once something may
+ * have given them work.
+ * <p>
+ * A tile asks to sleep at the end of its update ({@link GrowthcraftTileBase#sleep()}) when it
+ * found nothing to do. It's woken by {@link GrowthcraftTileBase#markDirty()} (inventory and
+ * tank changes end up there), by a neighbour notification at or next to its position, by a
+ * heat source change, or by the watchdog after {@link #WATCHDOG_TICKS} ticks in case none of
+ * those fired.
+ * <p>
+ * The tickable list can't change while the world iterates it, so sleeps and wakes only take
+ * effect at the end of the world tick. Client tiles never sleep.
+ */
+public class TileSleepManager {
+    public static final int WATCHDOG_TICKS = 100;
+
+    static final byte AWAKE = 0;
+    static final byte SLEEP_PENDING = 1;
+    static final byte ASLEEP = 2;
+    static final byte WAKE_PENDING = 3;
+
+    private static final TileSleepManager INSTANCE = new TileSleepManager();
+
+    static class Sleeper {
+        final long tick;
+        final GrowthcraftTileBase tile;
+
+        Sleeper(long tick, GrowthcraftTileBase tile) {
+            this.tick = tick;
+            this.tile = tile;
+        }
+    }
+
+    static class WorldState {
+        final List<GrowthcraftTileBase> pendingSleeps = new ArrayList<GrowthcraftTileBase>();
+        final List<GrowthcraftTileBase> pendingWakes = new ArrayList<GrowthcraftTileBase>();
+        // sleepers in the order they fell asleep, for the watchdog
+        final ArrayDeque<Sleeper> watchdog = new ArrayDeque<Sleeper>();
+        final Long2ObjectMap<GrowthcraftTileBase> sleepers = new Long2ObjectOpenHashMap<GrowthcraftTileBase>();
+    }
+
+    private final Map<World, WorldState> worlds = new WeakHashMap<World, WorldState>();
+
+    private TileSleepManager() {
+    }
+
+    public static TileSleepManager instance() {
+        return INSTANCE;
+    }
+
+    private WorldState getState(World world, boolean create) {
+        WorldState state = worlds.get(world);
+        if (state == null && create) {
+            state = new WorldState();
+            worlds.put(world, state);
+        }
+        return state;
+    }
+
+    /**
+     * Takes the tile out of the tickable list at the end of the tick, unless it's woken before.
+     *
+     * @param tile - tile to put to sleep, server side and ITickable only
+     */
+    public void sleep(@Nonnull GrowthcraftTileBase tile) {
+        final World world = tile.getWorld();
+        if (world == null || world.isRemote || !(tile instanceof ITickable)) return;
+        if (tile.sleepState != AWAKE) return;
+        tile.sleepState = SLEEP_PENDING;
+        getState(world, true).pendingSleeps.add(tile);
+    }
+
+    /**
+     * Puts the tile back in the tickable list, a tile which was about to sleep just stays awake.
+     *
+     * @param tile - tile to wake
+     */
+    public void wake(@Nonnull GrowthcraftTileBase tile) {
+        switch (tile.sleepState) {
+            case SLEEP_PENDING:
+                tile.sleepState = AWAKE;
+                break;
+            case ASLEEP:
+                final World world = tile.getWorld();
+                if (world == null) return;
+                final WorldState state = getState(world, false);
+                if (state == null) return;
+                tile.sleepState = WAKE_PENDING;
+                state.pendingWakes.add(tile);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void flush(@Nonnull World world, @Nonnull WorldState state) {
+        final long now = world.getTotalWorldTime();
+
+        // the watchdog first, so the tiles it wakes are handled with the others
+        while (!state.watchdog.isEmpty() && now - state.watchdog.peek().tick >= WATCHDOG_TICKS) {
+            final Sleeper entry = state.watchdog.poll();
+            final GrowthcraftTileBase tile = entry.tile;
+            // entries of tiles which were woken and fell asleep again since are stale
+            if (tile.sleepState == ASLEEP && tile.sleptAt == entry.tick) wake(tile);
+        }
+
+        if (!state.pendingWakes.isEmpty()) {
+            for (GrowthcraftTileBase tile : state.pendingWakes) {
+                if (tile.sleepState != WAKE_PENDING) continue;
+                tile.sleepState = AWAKE;
+                final long key = tile.getPos().toLong();
+                if (state.sleepers.get(key) == tile) state.sleepers.remove(key);
+                // unloaded or replaced tiles are gone for good, a reloaded one starts awake
+                if (tile.isInvalid() || tile.getWorld() != world || !world.isBlockLoaded(tile.getPos(), false)) continue;
+                if (world.getTileEntity(tile.getPos()) != tile) continue;
+                world.tickableTileEntities.add(tile);
+            }
+            state.pendingWakes.clear();
+        }
+
+        if (!state.pendingSleeps.isEmpty()) {
+            final Set<TileEntity> sleeping = Collections.newSetFromMap(new IdentityHashMap<TileEntity, Boolean>());
+            for (GrowthcraftTileBase tile : state.pendingSleeps) {
+                // woken again during the tick
+                if (tile.sleepState != SLEEP_PENDING) continue;
+                if (tile.isInvalid()) {
+                    tile.sleepState = AWAKE;
+                    continue;
+                }
+                tile.sleepState = ASLEEP;
+                tile.sleptAt = now;
+                sleeping.add(tile);
+                state.watchdog.add(new Sleeper(now, tile));
+                state.sleepers.put(tile.getPos().toLong(), tile);
+            }
+            state.pendingSleeps.clear();
+            if (!sleeping.isEmpty()) world.tickableTileEntities.removeAll(sleeping);
+        }
+    }
+
+    private void wakeAt(WorldState state, BlockPos pos) {
+        final GrowthcraftTileBase tile = state.sleepers.get(pos.toLong());
+        if (tile != null) wake(tile);
+    }
+
+    /**
+     * Counts the loaded Growthcraft tiles which can tick, by type.
+     *
+     * @param world - world to count in
+     * @return type name to {sleeping, awake}
+     */
+    public Map<String, int[]> report(@Nonnull World world) {
+        final Map<String, int[]> result = new TreeMap<String, int[]>();
+        for (TileEntity te : world.loadedTileEntityList) {
+            if (!(te instanceof GrowthcraftTileBase) || !(te instanceof ITickable)) continue;
+            final String name = te.getClass().getSimpleName();
+            int[] counts = result.get(name);
+            if (counts == null) {
+                counts = new int[2];
+                result.put(name, counts);
+            }
+            final byte sleepState = ((GrowthcraftTileBase) te).sleepState;
+            if (sleepState == ASLEEP || sleepState == WAKE_PENDING) {
+                counts[0]++;
+            } else {
+                counts[1]++;
+            }
+        }
+        return result;
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote) return;
+        final WorldState state = getState(event.world, false);
+        if (state == null) return;
+        event.world.profiler.startSection("growthcraft_tile_sleep");
+        try {
+            flush(event.world, state);
+        } finally {
+            event.world.profiler.endSection();
+        }
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        final World world = event.getWorld();
+        if (world.isRemote) return;
+        final WorldState state = getState(world, false);
+        if (state == null || state.sleepers.isEmpty()) return;
+        final BlockPos pos = event.getPos();
+        wakeAt(state, pos);
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            wakeAt(state, pos.offset(facing));
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        final World world = event.getWorld();
+        final WorldState state = worlds.remove(world);
+        if (state == null) return;
+        if (GrowthcraftLogger.getLogger(Reference.MODID).isDebugEnabled()) {
+            for (Map.Entry<String, int[]> entry : report(world).entrySet()) {
+                GrowthcraftLogger.getLogger(Reference.MODID).debug("{}: {} sleeping, {} awake", entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package growthcraft.core.shared.tileentity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.Reference;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+/**
+ * Collects the server side {@link GrowthcraftTileBase#markForUpdate()} calls of a tick
+ * and sends each tile's block update once, at the end of the world tick.
+ * <p>
+ * A hopper moving several items into a vat, or a fill followed by a drain, used to
+ * send one full block update per change; now they share one. A tile type can also be
+ * given a minimum number of ticks between two updates, changes made in between are
+ * sent together once the interval has passed.
+ */
+public class TileUpdateCoalescer {
+    private static final TileUpdateCoalescer INSTANCE = new TileUpdateCoalescer();
+
+    private final Map<World, List<GrowthcraftTileBase>> queues = new WeakHashMap<World, List<GrowthcraftTileBase>>();
+    private final Map<Class<?>, Integer> intervalCache = new IdentityHashMap<Class<?>, Integer>();
+    private Map<String, Integer> configuredIntervals = new HashMap<String, Integer>();
+    private int defaultInterval = 1;
+
+    // Update requests, requests merged into an already queued update, and updates actually sent
+    private long requested;
+    private long suppressed;
+    private long sent;
+
+    private TileUpdateCoalescer() {
+    }
+
+    public static TileUpdateCoalescer instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param ticks     - minimum ticks between two updates of the same tile, for tiles without their own entry
+     * @param intervals - entries of the form `tile_entity_key=ticks`
+     */
+    public void configure(int ticks, @Nonnull String[] intervals) {
+        final Map<String, Integer> result = new HashMap<String, Integer>();
+        for (String entry : intervals) {
+            final int sep = entry.lastIndexOf('=');
+            if (sep <= 0) {
+                GrowthcraftLogger.getLogger(Reference.MODID).warn("Invalid tile resync interval entry `" + entry + "`, expected `key=ticks`");
+                continue;
+            }
+            try {
+                result.put(entry.substring(0, sep).trim(), Math.max(1, Integer.parseInt(entry.substring(sep + 1).trim())));
+            } catch (NumberFormatException e) {
+                GrowthcraftLogger.getLogger(Reference.MODID).warn("Invalid tile resync interval entry `" + entry + "`, expected `key=ticks`");
+            }
+        }
+        this.defaultInterval = Math.max(1, ticks);
+        this.configuredIntervals = result;
+        intervalCache.clear();
+    }
+
+    private int getInterval(@Nonnull Class<? extends TileEntity> klass) {
+        Integer interval = intervalCache.get(klass);
+        if (interval == null) {
+            final ResourceLocation key = TileEntity.getKey(klass);
+            interval = key != null ? configuredIntervals.get(key.toString()) : null;
+            if (interval == null) interval = defaultInterval;
+            intervalCache.put(klass, interval);
+        }
+        return interval;
+    }
+
+    /**
+     * Queues a block update for the tile, server side only.
+     *
+     * @param tile - tile to update
+     */
+    public void enqueue(@Nonnull GrowthcraftTileBase tile) {
+        requested++;
+        if (tile.updateQueued) {
+            suppressed++;
+            return;
+        }
+        final World world = tile.getWorld();
+        List<GrowthcraftTileBase> queue = queues.get(world);
+        if (queue == null) {
+            queue = new ArrayList<GrowthcraftTileBase>();
+            queues.put(world, queue);
+        }
+        tile.updateQueued = true;
+        queue.add(tile);
+    }
+
+    private void flush(@Nonnull World world) {
+        final List<GrowthcraftTileBase> queue = queues.get(world);
+        if (queue == null || queue.isEmpty()) return;
+
+        final long now = world.getTotalWorldTime();
+        int kept = 0;
+        for (int i = 0; i < queue.size(); ++i) {
+            final GrowthcraftTileBase tile = queue.get(i);
+            if (tile.isInvalid() || tile.getWorld() != world) {
+                tile.updateQueued = false;
+                continue;
+            }
+            if (tile.lastUpdateTick >= 0 && now - tile.lastUpdateTick < getInterval(tile.getClass())) {
+                // too soon, keep it queued, further changes are merged into it
+                queue.set(kept++, tile);
+                continue;
+            }
+            tile.updateQueued = false;
+            tile.lastUpdateTick = now;
+            tile.markForUpdateNow();
+            sent++;
+        }
+        for (int i = queue.size() - 1; i >= kept; --i) {
+            queue.remove(i);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            flush(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        final List<GrowthcraftTileBase> queue = queues.remove(event.getWorld());
+        if (queue != null) {
+            for (GrowthcraftTileBase tile : queue) tile.updateQueued = false;
+        }
+        GrowthcraftLogger.getLogger(Reference.MODID).debug(this);
+    }
+
+    public long getRequestedCount() {
+        return requested;
+    }
+
+    public long getSuppressedCount() {
+        return suppressed;
+    }
+
+    public long getSentCount() {
+        return sent;
+    }
+
+    @Override
+    public String toString() {
+        return "TileUpdateCoalescer{requested=" + requested + ", suppressed=" + suppressed + ", sent=" + sent + "}";
+    }
+}
@@ -0,0 +1,124 @@
+package growthcraft.core.shared.tileentity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import growthcraft.core.shared.tileentity.feature.ITileWakeable;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+/**
+ * Wakes {@link ITileWakeable} tiles at the world tick they asked for, so tiles which only
+ * change at a few known points in time (a cheese finishing its ageing, a curd dripping)
+ * don't have to tick in between.
+ * <p>
+ * A tile has at most one pending wake, asking for a later one while an earlier one is
+ * pending keeps the earlier one, the tile is expected to ask again when it's woken.
+ * Server worlds are handled at the end of their world tick, client worlds at the end of
+ * the client tick.
+ */
+public class TileWakeScheduler {
+    private static final TileWakeScheduler INSTANCE = new TileWakeScheduler();
+
+    static class Entry implements Comparable<Entry> {
+        final long tick;
+        final GrowthcraftTileBase tile;
+
+        Entry(long tick, GrowthcraftTileBase tile) {
+            this.tick = tick;
+            this.tile = tile;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(tick, other.tick);
+        }
+    }
+
+    private final Map<World, PriorityQueue<Entry>> queues = new WeakHashMap<World, PriorityQueue<Entry>>();
+
+    private TileWakeScheduler() {
+    }
+
+    public static TileWakeScheduler instance() {
+        return INSTANCE;
+    }
+
+    private PriorityQueue<Entry> getQueue(World world, boolean create) {
+        synchronized (queues) {
+            PriorityQueue<Entry> queue = queues.get(world);
+            if (queue == null && create) {
+                queue = new PriorityQueue<Entry>();
+                queues.put(world, queue);
+            }
+            return queue;
+        }
+    }
+
+    /**
+     * @param tile - tile to wake, has to implement ITileWakeable
+     * @param tick - world total time to wake the tile at, ticks in the past wake it on the next flush
+     */
+    public <T extends GrowthcraftTileBase & ITileWakeable> void schedule(@Nonnull T tile, long tick) {
+        final World world = tile.getWorld();
+        if (world == null) return;
+        if (tile.scheduledWake >= 0 && tile.scheduledWake <= tick) return;
+        tile.scheduledWake = tick;
+        getQueue(world, true).add(new Entry(tick, tile));
+    }
+
+    private void flush(@Nonnull World world) {
+        final PriorityQueue<Entry> queue = getQueue(world, false);
+        if (queue == null) return;
+
+        final long now = world.getTotalWorldTime();
+        while (!queue.isEmpty() && queue.peek().tick <= now) {
+            final Entry entry = queue.poll();
+            final GrowthcraftTileBase tile = entry.tile;
+            // replaced by an earlier wake
+            if (tile.scheduledWake != entry.tick) continue;
+            tile.scheduledWake = -1;
+            // unloaded tiles ask again once they're loaded
+            if (tile.isInvalid() || tile.getWorld() != world || !world.isBlockLoaded(tile.getPos(), false)) continue;
+            if (world.getTileEntity(tile.getPos()) != tile) continue;
+            ((ITileWakeable) tile).onWake();
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote) {
+            flush(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        final List<World> worlds = new ArrayList<World>(1);
+        synchronized (queues) {
+            for (World world : queues.keySet()) {
+                if (world.isRemote) worlds.add(world);
+            }
+        }
+        for (World world : worlds) flush(world);
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        final PriorityQueue<Entry> queue;
+        synchronized (queues) {
+            queue = queues.remove(event.getWorld());
+        }
+        if (queue != null) {
+            for (Entry entry : queue) entry.tile.scheduledWake = -1;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package growthcraft.core.shared.tileentity.component;
 import growthcraft.cellar.shared.CellarRegistry;
 import growthcraft.cellar.shared.processing.heatsource.IHeatSourceBlock;
 import growthcraft.core.shared.block.BlockCheck;
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -11,13 +12,25 @@ import net.minecraft.world.World;
 
 /**
  * Component for handling heat source blocks for a tile entity
+ * <p>
+ * On the server the heat is read once and kept until the {@link HeatField} reports a change
+ * at one of the source positions, blocks changed without a neighbour notification are picked
+ * up by a recheck every {@link #RECHECK_TICKS} ticks.
  */
 public class HeatBlockComponent {
+    private static final int RECHECK_TICKS = 200;
+
     private TileEntity tileEntity;
     private EnumFacing sourceDir = EnumFacing.DOWN;
     // Adjacent heating allows the block to accept heat from blocks on the same y axis and directly
     // adjacent to it
     private float adjacentHeating;
+    // The world and position the sources are watched for, null when nothing is watched
+    private World watchedWorld;
+    private BlockPos watchedPos;
+    private boolean dirty = true;
+    private long checkedAt;
+    private float cachedHeat;
 
     /**
      * @param te  - parent tile entity
@@ -32,6 +45,50 @@ public class HeatBlockComponent {
         return tileEntity.getWorld();
     }
 
+    TileEntity getTileEntity() {
+        return tileEntity;
+    }
+
+    /**
+     * Called by the heat field when one of the watched positions changed, a sleeping tile is
+     * woken to pick up the new heat
+     */
+    void invalidate() {
+        this.dirty = true;
+        if (tileEntity instanceof GrowthcraftTileBase) ((GrowthcraftTileBase) tileEntity).wake();
+    }
+
+    /**
+     * Called by the heat field when it stopped watching for this component
+     */
+    void unwatched() {
+        this.watchedWorld = null;
+        this.watchedPos = null;
+        this.dirty = true;
+    }
+
+    private void forEachSource(World world, BlockPos pos, boolean watch) {
+        final HeatField field = HeatField.instance();
+        if (watch) field.watch(world, pos.offset(sourceDir), this);
+        else field.unwatch(world, pos.offset(sourceDir), this);
+        if (adjacentHeating > 0) {
+            for (EnumFacing dir : BlockCheck.DIR4) {
+                if (watch) field.watch(world, pos.offset(dir), this);
+                else field.unwatch(world, pos.offset(dir), this);
+            }
+        }
+    }
+
+    private void updateWatch(World world) {
+        final BlockPos pos = tileEntity.getPos();
+        if (world == watchedWorld && pos.equals(watchedPos)) return;
+        if (watchedWorld != null) forEachSource(watchedWorld, watchedPos, false);
+        forEachSource(world, pos, true);
+        this.watchedWorld = world;
+        this.watchedPos = pos.toImmutable();
+        this.dirty = true;
+    }
+
     public float getHeatMultiplierFromDir(EnumFacing dir) {
         BlockPos pos = tileEntity.getPos().offset(dir);
 //		final int x = tileEntity.xCoord + dir.offsetX;
@@ -57,7 +114,21 @@ public class HeatBlockComponent {
         return 0.0f;
     }
 
-    public float getHeatMultiplier() {
+    private float readHeatMultiplier() {
         return getHeatMultiplierFromDir(sourceDir) + getHeatMultiplierForAdjacent();
     }
+
+    public float getHeatMultiplier() {
+        final World world = getWorld();
+        if (world.isRemote) return readHeatMultiplier();
+
+        updateWatch(world);
+        final long now = world.getTotalWorldTime();
+        if (dirty || now < checkedAt || now - checkedAt >= RECHECK_TICKS) {
+            this.cachedHeat = readHeatMultiplier();
+            this.checkedAt = now;
+            this.dirty = false;
+        }
+        return cachedHeat;
+    }
 }
@@ -0,0 +1,124 @@
+package growthcraft.core.shared.tileentity.component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Tracks the positions the server side {@link HeatBlockComponent}s take their heat from.
+ * <p>
+ * A component reads its heat sources once and keeps the result until one of the watched
+ * positions sends a neighbour notification, instead of reading the blocks on every tick.
+ */
+public class HeatField {
+    private static final HeatField INSTANCE = new HeatField();
+
+    private final Map<World, Long2ObjectMap<List<HeatBlockComponent>>> watchers = new WeakHashMap<World, Long2ObjectMap<List<HeatBlockComponent>>>();
+
+    private HeatField() {
+    }
+
+    public static HeatField instance() {
+        return INSTANCE;
+    }
+
+    private Long2ObjectMap<List<HeatBlockComponent>> getWatchers(@Nonnull World world) {
+        Long2ObjectMap<List<HeatBlockComponent>> map = watchers.get(world);
+        if (map == null) {
+            map = new Long2ObjectOpenHashMap<List<HeatBlockComponent>>();
+            watchers.put(world, map);
+        }
+        return map;
+    }
+
+    /**
+     * @param world     - world, server side only
+     * @param pos       - position to watch
+     * @param component - component to invalidate when the position changes
+     */
+    public void watch(@Nonnull World world, @Nonnull BlockPos pos, @Nonnull HeatBlockComponent component) {
+        final Long2ObjectMap<List<HeatBlockComponent>> map = getWatchers(world);
+        final long key = pos.toLong();
+        List<HeatBlockComponent> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<HeatBlockComponent>(1);
+            map.put(key, list);
+        } else {
+            list.removeIf(HeatField::isStale);
+        }
+        if (!list.contains(component)) list.add(component);
+    }
+
+    public void unwatch(@Nonnull World world, @Nonnull BlockPos pos, @Nonnull HeatBlockComponent component) {
+        final Long2ObjectMap<List<HeatBlockComponent>> map = watchers.get(world);
+        if (map == null) return;
+        final long key = pos.toLong();
+        final List<HeatBlockComponent> list = map.get(key);
+        if (list != null) {
+            list.remove(component);
+            if (list.isEmpty()) map.remove(key);
+        }
+    }
+
+    private static boolean isStale(HeatBlockComponent component) {
+        return component.getTileEntity().isInvalid();
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        final World world = event.getWorld();
+        if (world.isRemote) return;
+        final Long2ObjectMap<List<HeatBlockComponent>> map = watchers.get(world);
+        if (map == null) return;
+        final long key = event.getPos().toLong();
+        final List<HeatBlockComponent> list = map.get(key);
+        if (list == null) return;
+        for (HeatBlockComponent component : list) {
+            component.invalidate();
+        }
+        list.removeIf(HeatField::isStale);
+        if (list.isEmpty()) map.remove(key);
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        final Long2ObjectMap<List<HeatBlockComponent>> map = watchers.get(event.getWorld());
+        if (map == null) return;
+        final Chunk chunk = event.getChunk();
+        final Iterator<List<HeatBlockComponent>> it = map.values().iterator();
+        while (it.hasNext()) {
+            final List<HeatBlockComponent> list = it.next();
+            list.removeIf(component -> {
+                final TileEntity te = component.getTileEntity();
+                if (te.isInvalid()) return true;
+                if ((te.getPos().getX() >> 4) == chunk.x && (te.getPos().getZ() >> 4) == chunk.z) {
+                    // the tile reads its sources again and watches them anew once it is loaded
+                    component.unwatched();
+                    return true;
+                }
+                return false;
+            });
+            if (list.isEmpty()) it.remove();
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        watchers.remove(event.getWorld());
+    }
+}
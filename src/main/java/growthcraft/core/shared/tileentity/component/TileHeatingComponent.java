@@ -12,6 +12,7 @@ public class TileHeatingComponent implements INBTSerializableContext, IStreamabl
     private TileEntity tileEntity;
     private HeatBlockComponent heatBlockComponent;
     private float heat;
+    private float lastHeatMul;
     private float heatLoss = 0.01f;
     private float heatGain = 0.01f;
 
@@ -22,6 +23,7 @@ public class TileHeatingComponent implements INBTSerializableContext, IStreamabl
 
     public void update() {
         final float heatMul = heatBlockComponent.getHeatMultiplier();
+        this.lastHeatMul = heatMul;
         if (heatMul > 0) {
             if (this.heat < heatMul) {
                 this.heat += heatGain * heatMul;
@@ -47,6 +49,13 @@ public class TileHeatingComponent implements INBTSerializableContext, IStreamabl
         return heat > 0.0f;
     }
 
+    /**
+     * @return true if the component is cold and has no heat source, so updating it changes nothing
+     */
+    public boolean isSettled() {
+        return heat <= 0.0f && lastHeatMul <= 0.0f;
+    }
+
     private void readFromNBT(@Nonnull NBTTagCompound tag) {
         this.heat = tag.getFloat("heat");
     }
@@ -5,6 +5,8 @@ import java.util.Random;
 import growthcraft.core.shared.block.BlockFlags;
 import growthcraft.core.shared.io.nbt.INBTSerializableContext;
 import growthcraft.core.shared.io.stream.IStreamable;
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
+import growthcraft.core.shared.tileentity.TileSleepManager;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.inventory.IInventory;
@@ -53,6 +55,22 @@ public class DeviceBase implements INBTSerializableContext, IStreamable {
         parent.markDirty();
     }
 
+    /**
+     * Puts the parent tile to sleep, see {@link GrowthcraftTileBase#sleep()}.
+     * Only call it from devices whose parent has nothing else to do in its update.
+     */
+    protected void sleep() {
+        if (parent instanceof GrowthcraftTileBase) {
+            TileSleepManager.instance().sleep((GrowthcraftTileBase) parent);
+        }
+    }
+
+    protected void wake() {
+        if (parent instanceof GrowthcraftTileBase) {
+            ((GrowthcraftTileBase) parent).wake();
+        }
+    }
+
     /**
      * @param data - nbt data to read from
      */
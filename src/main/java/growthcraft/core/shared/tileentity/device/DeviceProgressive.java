@@ -1,5 +1,6 @@
 package growthcraft.core.shared.tileentity.device;
 
+import growthcraft.core.shared.io.stream.StreamUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -80,8 +81,8 @@ public class DeviceProgressive extends DeviceBase {
     @Override
     public boolean readFromStream(ByteBuf buf) {
         super.readFromStream(buf);
-        this.time = buf.readInt();
-        //this.timeMax = buf.readInt();
+        this.time = StreamUtils.readVarInt(buf);
+        //this.timeMax = StreamUtils.readVarInt(buf);
         return false;
     }
 
@@ -91,8 +92,8 @@ public class DeviceProgressive extends DeviceBase {
     @Override
     public boolean writeToStream(ByteBuf buf) {
         super.writeToStream(buf);
-        buf.writeInt(time);
-        //buf.writeInt(timeMax);
+        StreamUtils.writeVarInt(buf, time);
+        //StreamUtils.writeVarInt(buf, timeMax);
         return false;
     }
 }
@@ -0,0 +1,176 @@
+package growthcraft.core.shared.tileentity.device;
+
+import javax.annotation.Nullable;
+
+import growthcraft.core.shared.item.ItemUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Remembers the recipe a device found for its current inputs.
+ * <p>
+ * Every time a device wants its recipe, it feeds the inputs the lookup depends on
+ * into the cache (a fingerprint of fluid / item identity, meta and amounts). As long
+ * as the fingerprint is the same as on the last lookup, the cached recipe is reused
+ * and the registry isn't queried at all. Building the fingerprint doesn't allocate.
+ * <p>
+ * Usage:
+ * <pre>
+ * if (!recipeCache.begin().put(fluidSlot.get()).put(itemSlot.get()).isUnchanged()) {
+ *     recipeCache.set(registry.findRecipe(fluidSlot.get(), itemSlot.get()));
+ * }
+ * return recipeCache.get();
+ * </pre>
+ * Devices should call {@link #invalidate()} from their inventory and fluid change
+ * hooks, so changes the fingerprint can't see (i.e. untracked NBT) are picked up.
+ * A recipe reload calls {@link #invalidateAll()}, which invalidates every cache at once.
+ *
+ * @param <R> recipe type
+ */
+public class RecipeCache<R> {
+    private static volatile int generation;
+
+    private Object[] refs = new Object[8];
+    private int[] values = new int[8];
+    private int size;
+    private int cursor;
+    private boolean matching;
+    private boolean valid;
+    private boolean trackNBT;
+    private int recipeGeneration;
+    private R recipe;
+
+    /**
+     * Invalidates every cache, i.e. after the recipe registries were reloaded.
+     */
+    public static void invalidateAll() {
+        generation++;
+    }
+
+    /**
+     * @return changes whenever {@link #invalidateAll()} is called, for devices which
+     * keep a recipe outside of a cache
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Should NBT tags be part of the fingerprint?
+     * Only needed if the recipes compare stack tags, i.e. FluidStack.isFluidEqual.
+     *
+     * @param flag - track tags
+     * @return this
+     */
+    public RecipeCache<R> setTrackNBT(boolean flag) {
+        this.trackNBT = flag;
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Forces a lookup on the next request.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Starts a new fingerprint.
+     *
+     * @return this
+     */
+    public RecipeCache<R> begin() {
+        this.cursor = 0;
+        this.matching = valid && recipeGeneration == generation;
+        return this;
+    }
+
+    public RecipeCache<R> put(@Nullable FluidStack stack) {
+        if (stack == null || stack.getFluid() == null) {
+            putEntry(null, 0);
+        } else {
+            putEntry(stack.getFluid(), stack.amount);
+            if (trackNBT) putTag(stack.tag);
+        }
+        return this;
+    }
+
+    public RecipeCache<R> put(@Nullable ItemStack stack) {
+        if (ItemUtils.isEmpty(stack)) {
+            putEntry(null, 0);
+            putEntry(null, 0);
+        } else {
+            putEntry(stack.getItem(), stack.getItemDamage());
+            putEntry(null, stack.getCount());
+            if (trackNBT) putTag(stack.getTagCompound());
+        }
+        return this;
+    }
+
+    public RecipeCache<R> put(int value) {
+        putEntry(null, value);
+        return this;
+    }
+
+    public RecipeCache<R> put(float value) {
+        putEntry(null, Float.floatToIntBits(value));
+        return this;
+    }
+
+    public RecipeCache<R> put(boolean value) {
+        putEntry(null, value ? 1 : 0);
+        return this;
+    }
+
+    private void putTag(@Nullable NBTTagCompound tag) {
+        putEntry(null, tag != null ? tag.hashCode() : 0);
+    }
+
+    private void putEntry(@Nullable Object ref, int value) {
+        if (cursor >= refs.length) {
+            final Object[] newRefs = new Object[refs.length * 2];
+            final int[] newValues = new int[values.length * 2];
+            System.arraycopy(refs, 0, newRefs, 0, refs.length);
+            System.arraycopy(values, 0, newValues, 0, values.length);
+            this.refs = newRefs;
+            this.values = newValues;
+        }
+        if (matching) {
+            if (cursor >= size || refs[cursor] != ref || values[cursor] != value) {
+                this.matching = false;
+            }
+        }
+        refs[cursor] = ref;
+        values[cursor] = value;
+        cursor++;
+    }
+
+    /**
+     * Finishes the fingerprint started by {@link #begin()}.
+     *
+     * @return true, the inputs are the same as on the last lookup and {@link #get()} can be used,
+     * false otherwise, the caller should look up the recipe and {@link #set(Object)} it.
+     */
+    public boolean isUnchanged() {
+        final boolean unchanged = matching && cursor == size;
+        this.size = cursor;
+        if (!unchanged) this.valid = false;
+        return unchanged;
+    }
+
+    /**
+     * @param r - recipe found for the current fingerprint, may be null
+     */
+    public void set(@Nullable R r) {
+        this.recipe = r;
+        this.recipeGeneration = generation;
+        this.valid = true;
+    }
+
+    @Nullable
+    public R get() {
+        return recipe;
+    }
+}
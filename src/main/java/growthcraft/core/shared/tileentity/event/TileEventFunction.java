@@ -1,6 +1,10 @@
 package growthcraft.core.shared.tileentity.event;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import javax.annotation.Nonnull;
@@ -9,38 +13,143 @@ import growthcraft.core.shared.io.stream.IStreamable;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 
+/**
+ * A compiled @TileEventHandler method.
+ * <p>
+ * The handler is bound to a generated invoker (via LambdaMetafactory) once, so calling it
+ * is a plain interface call, no reflection and no boxing of the stream handler's result.
+ */
 public class TileEventFunction {
-    private Method method;
+    public interface INBTInvoker {
+        void invoke(Object tile, NBTTagCompound nbt);
+    }
+
+    public interface IStreamInvoker {
+        boolean invoke(Object tile, ByteBuf data);
+    }
+
+    private static final MethodType NBT_INVOKER_TYPE = MethodType.methodType(void.class, Object.class, NBTTagCompound.class);
+    private static final MethodType STREAM_INVOKER_TYPE = MethodType.methodType(boolean.class, Object.class, ByteBuf.class);
 
-    public TileEventFunction(@Nonnull Method m) {
+    private final Method method;
+    private final INBTInvoker nbtInvoker;
+    private final IStreamInvoker streamInvoker;
+
+    private TileEventFunction(@Nonnull Method m, INBTInvoker nbt, IStreamInvoker stream) {
         this.method = m;
+        this.nbtInvoker = nbt;
+        this.streamInvoker = stream;
     }
 
-    private Object invoke2(Object a, Object b) {
+    /**
+     * @param method - handler method
+     * @param type   - event the method handles
+     * @return compiled function
+     * @throws IllegalStateException if the method's signature doesn't fit the event
+     */
+    public static TileEventFunction compile(@Nonnull Method method, @Nonnull TileEventHandler.EventType type) {
+        switch (type) {
+            case NBT_READ:
+            case NBT_WRITE:
+                checkSignature(method, void.class, NBTTagCompound.class);
+                return new TileEventFunction(method, compileNBTInvoker(method), null);
+            case NETWORK_READ:
+            case NETWORK_WRITE:
+            case GUI_NETWORK_READ:
+            case GUI_NETWORK_WRITE:
+                checkSignature(method, boolean.class, ByteBuf.class);
+                return new TileEventFunction(method, null, compileStreamInvoker(method));
+            default:
+                throw new IllegalStateException("Cannot compile @TileEventHandler for event " + type + ": " + method);
+        }
+    }
+
+    private static void checkSignature(Method method, Class<?> returnType, Class<?> paramType) {
+        final Class<?>[] params = method.getParameterTypes();
+        if (method.getReturnType() != returnType || params.length != 1 || params[0] != paramType) {
+            throw new IllegalStateException("Invalid @TileEventHandler signature, expected " +
+                    returnType.getSimpleName() + "(" + paramType.getSimpleName() + "): " + method);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
         try {
-            return this.method.invoke(a, b);
+            return MethodHandles.publicLookup().unreflect(method);
         } catch (IllegalAccessException e) {
             throw new IllegalStateException(e);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalStateException(e);
-        } catch (InvocationTargetException e) {
-            throw new IllegalStateException(e);
         }
     }
 
+    private static INBTInvoker compileNBTInvoker(Method method) {
+        final MethodHandle handle = unreflect(method);
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "invoke",
+                    MethodType.methodType(INBTInvoker.class), NBT_INVOKER_TYPE, handle, handle.type());
+            return (INBTInvoker) site.getTarget().invoke();
+        } catch (Throwable t) {
+            // The lambda could not be spun (i.e. class loader visibility), fall back to the handle itself
+            final MethodHandle exact = handle.asType(NBT_INVOKER_TYPE);
+            return new INBTInvoker() {
+                @Override
+                public void invoke(Object tile, NBTTagCompound nbt) {
+                    try {
+                        exact.invokeExact(tile, nbt);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    private static IStreamInvoker compileStreamInvoker(Method method) {
+        final MethodHandle handle = unreflect(method);
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "invoke",
+                    MethodType.methodType(IStreamInvoker.class), STREAM_INVOKER_TYPE, handle, handle.type());
+            return (IStreamInvoker) site.getTarget().invoke();
+        } catch (Throwable t) {
+            // The lambda could not be spun (i.e. class loader visibility), fall back to the handle itself
+            final MethodHandle exact = handle.asType(STREAM_INVOKER_TYPE);
+            return new IStreamInvoker() {
+                @Override
+                public boolean invoke(Object tile, ByteBuf data) {
+                    try {
+                        return (boolean) exact.invokeExact(tile, data);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
     public void readFromNBT(Object tile, NBTTagCompound nbt) {
-        invoke2(tile, nbt);
+        nbtInvoker.invoke(tile, nbt);
     }
 
     public void writeToNBT(Object tile, NBTTagCompound nbt) {
-        invoke2(tile, nbt);
+        nbtInvoker.invoke(tile, nbt);
     }
 
     public boolean writeToStream(IStreamable tile, ByteBuf data) {
-        return (Boolean) invoke2(tile, data);
+        return streamInvoker.invoke(tile, data);
     }
 
     public boolean readFromStream(IStreamable tile, ByteBuf data) {
-        return (Boolean) invoke2(tile, data);
+        return streamInvoker.invoke(tile, data);
+    }
+
+    @Override
+    public String toString() {
+        return "TileEventFunction{" + method + "}";
     }
 }
@@ -1,12 +1,80 @@
 package growthcraft.core.shared.tileentity.event;
 
-import java.util.EnumMap;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
-public class TileEventFunctionMap extends EnumMap<TileEventHandler.EventType, List<TileEventFunction>> {
-    public static final long serialVersionUID = 1L;
+import javax.annotation.Nonnull;
 
-    public TileEventFunctionMap() {
-        super(TileEventHandler.EventType.class);
+/**
+ * Immutable table of the compiled event handlers of a single class, indexed by event type.
+ */
+public class TileEventFunctionMap {
+    public static final TileEventFunction[] EMPTY = new TileEventFunction[0];
+
+    private static final TileEventHandler.EventType[] EVENT_TYPES = TileEventHandler.EventType.values();
+
+    /**
+     * Orders handlers by the depth of their declaring class (superclass handlers first) and then by name,
+     * Class#getMethods makes no promise about its order and the stream handlers of the server and the client
+     * have to run in the same order.
+     */
+    private static final Comparator<Method> METHOD_ORDER = new Comparator<Method>() {
+        @Override
+        public int compare(Method a, Method b) {
+            final int depth = Integer.compare(classDepth(a.getDeclaringClass()), classDepth(b.getDeclaringClass()));
+            if (depth != 0) return depth;
+            return a.getName().compareTo(b.getName());
+        }
+    };
+
+    private final TileEventFunction[][] functions;
+
+    private TileEventFunctionMap(@Nonnull TileEventFunction[][] funcs) {
+        this.functions = funcs;
+    }
+
+    private static int classDepth(Class<?> klass) {
+        int depth = 0;
+        for (Class<?> k = klass; k != null; k = k.getSuperclass()) depth++;
+        return depth;
+    }
+
+    /**
+     * Collects and compiles all @TileEventHandler methods of the given class.
+     *
+     * @param klass - class to build the table for
+     * @return table
+     */
+    public static TileEventFunctionMap build(@Nonnull Class<?> klass) {
+        final Method[] methods = klass.getMethods();
+        Arrays.sort(methods, METHOD_ORDER);
+
+        final List<List<TileEventFunction>> byType = new ArrayList<List<TileEventFunction>>(EVENT_TYPES.length);
+        for (int i = 0; i < EVENT_TYPES.length; ++i) byType.add(new ArrayList<TileEventFunction>());
+
+        for (Method method : methods) {
+            final TileEventHandler anno = method.getAnnotation(TileEventHandler.class);
+            if (anno != null && anno.event() != TileEventHandler.EventType.NULL) {
+                byType.get(anno.event().ordinal()).add(TileEventFunction.compile(method, anno.event()));
+            }
+        }
+
+        final TileEventFunction[][] funcs = new TileEventFunction[EVENT_TYPES.length][];
+        for (int i = 0; i < EVENT_TYPES.length; ++i) {
+            final List<TileEventFunction> list = byType.get(i);
+            funcs[i] = list.isEmpty() ? EMPTY : list.toArray(new TileEventFunction[list.size()]);
+        }
+        return new TileEventFunctionMap(funcs);
+    }
+
+    /**
+     * @param type - event type
+     * @return handlers for the event, never null; the array is shared and must not be modified
+     */
+    public TileEventFunction[] get(@Nonnull TileEventHandler.EventType type) {
+        return functions[type.ordinal()];
     }
 }
@@ -1,38 +1,38 @@
 package growthcraft.core.shared.tileentity.event;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-
 import javax.annotation.Nonnull;
 
 import net.minecraft.tileentity.TileEntity;
 
-public class TileEventHandlerMap<T extends TileEntity> extends HashMap<Class<? extends T>, TileEventFunctionMap> {
-    public static final long serialVersionUID = 1L;
-
-    protected void addHandlerEventFunction(@Nonnull TileEventFunctionMap handlerMap, @Nonnull TileEventHandler.EventType type, @Nonnull Method method) {
-        if (!handlerMap.containsKey(type)) {
-            handlerMap.put(type, new ArrayList<TileEventFunction>());
+/**
+ * Per class tables of compiled @TileEventHandler methods.
+ * <p>
+ * Tables are built once per class (eagerly via {@link #prepare(Class)} when the tile is registered,
+ * or lazily on first use otherwise), lookups after that don't allocate.
+ */
+public class TileEventHandlerMap<T extends TileEntity> {
+    private final ClassValue<TileEventFunctionMap> tables = new ClassValue<TileEventFunctionMap>() {
+        @Override
+        protected TileEventFunctionMap computeValue(Class<?> type) {
+            return TileEventFunctionMap.build(type);
         }
-        handlerMap.get(type).add(new TileEventFunction(method));
+    };
+
+    /**
+     * Builds the handler table for the class right away, so invalid handlers fail at startup
+     * instead of on the first save or sync.
+     *
+     * @param klass - tile class
+     */
+    public void prepare(@Nonnull Class<? extends T> klass) {
+        tables.get(klass);
     }
 
-    public TileEventFunctionMap getEventFunctionMap(Class<? extends T> klass) {
-        TileEventFunctionMap cached = get(klass);
-        if (cached == null) {
-            cached = new TileEventFunctionMap();
-            put(klass, cached);
-            for (Method method : klass.getMethods()) {
-                final TileEventHandler anno = method.getAnnotation(TileEventHandler.class);
-                if (anno != null) addHandlerEventFunction(cached, anno.event(), method);
-            }
-        }
-        return cached;
+    public TileEventFunctionMap getEventFunctionMap(@Nonnull Class<? extends T> klass) {
+        return tables.get(klass);
     }
 
-    public List<TileEventFunction> getEventFunctionsForClass(Class<? extends T> klass, TileEventHandler.EventType type) {
-        return getEventFunctionMap(klass).get(type);
+    public TileEventFunction[] getEventFunctionsForClass(@Nonnull Class<? extends T> klass, @Nonnull TileEventHandler.EventType type) {
+        return tables.get(klass).get(type);
     }
 }
@@ -1,10 +1,12 @@
 package growthcraft.core.shared.tileentity.feature;
 
-import net.minecraft.inventory.Container;
-import net.minecraft.inventory.IContainerListener;
+import growthcraft.core.shared.inventory.GuiNetworkSync;
 
 public interface IGuiNetworkSync {
-    void sendGUINetworkData(Container container, IContainerListener icrafting);
-
-    void receiveGUINetworkData(int id, int value);
+    /**
+     * Lists the values the GUI shows, for every container on both sides, so always list them in the same order.
+     *
+     * @param sync - list to add to
+     */
+    void addGuiNetworkSyncValues(GuiNetworkSync sync);
 }
@@ -0,0 +1,8 @@
+package growthcraft.core.shared.tileentity.feature;
+
+/**
+ * Tiles which don't tick, and instead are woken by the TileWakeScheduler at the ticks they asked for.
+ */
+public interface ITileWakeable {
+    void onWake();
+}
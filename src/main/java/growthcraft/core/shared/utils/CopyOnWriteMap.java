@@ -0,0 +1,93 @@
+package growthcraft.core.shared.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A map for registries, which are filled during loading and then read all the time, from
+ * the server thread as well as from client, JEI or worker threads.
+ * <p>
+ * Reads go to the current snapshot and never lock. Writes copy the snapshot, change the
+ * copy and publish it in one volatile write, so readers either see a change as a whole or
+ * not at all. Several changes made in one {@link #update(Consumer)} are published together.
+ * Values should not be changed after they were put into the map, replace them instead.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class CopyOnWriteMap<K, V> {
+    private final Supplier<Map<K, V>> factory;
+    private volatile Map<K, V> map;
+
+    public CopyOnWriteMap() {
+        this(HashMap::new);
+    }
+
+    /**
+     * @param pFactory - creates the backing maps, i.e. IdentityHashMap::new
+     */
+    public CopyOnWriteMap(@Nonnull Supplier<Map<K, V>> pFactory) {
+        this.factory = pFactory;
+        this.map = pFactory.get();
+    }
+
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return the current contents, later writes don't show up in it
+     */
+    public Map<K, V> snapshot() {
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * @return the current values, later writes don't show up in them
+     */
+    public Collection<V> values() {
+        return snapshot().values();
+    }
+
+    public synchronized V put(K key, V value) {
+        final Map<K, V> copy = factory.get();
+        copy.putAll(map);
+        final V previous = copy.put(key, value);
+        this.map = copy;
+        return previous;
+    }
+
+    /**
+     * Applies the writer to a copy of the map and publishes the copy.
+     *
+     * @param writer - changes the copy, must not keep a reference to it
+     */
+    public synchronized void update(@Nonnull Consumer<Map<K, V>> writer) {
+        final Map<K, V> copy = factory.get();
+        copy.putAll(map);
+        writer.accept(copy);
+        this.map = copy;
+    }
+
+    public synchronized void clear() {
+        this.map = factory.get();
+    }
+}
@@ -2,6 +2,7 @@ package growthcraft.core.shared.utils;
 
 import growthcraft.core.shared.io.nbt.INBTSerializableContext;
 import growthcraft.core.shared.io.stream.IStreamable;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 
@@ -88,6 +89,37 @@ public class PulseStepper implements INBTSerializableContext, IStreamable {
         return State.TICK;
     }
 
+    /**
+     * Same as calling {@link #update()} the given number of times, in one step.
+     *
+     * @param ticks - number of ticks to advance
+     * @return number of pulses which happened
+     */
+    public int advance(long ticks) {
+        if (ticks <= 0 || maxSteps <= 0) return 0;
+        if (maxLoops > 0 && loops >= maxLoops) return 0;
+
+        final long total = steps + ticks;
+        long pulses = total / maxSteps;
+        if (maxLoops > 0 && pulses >= maxLoops - loops) {
+            pulses = maxLoops - loops;
+            resetSteps();
+        } else {
+            this.steps = (int) (total % maxSteps);
+        }
+        this.loops += (int) pulses;
+        return (int) pulses;
+    }
+
+    /**
+     * @return the number of ticks until the next pulse, -1 if there are no more pulses
+     */
+    public int ticksUntilPulse() {
+        if (maxSteps <= 0) return -1;
+        if (maxLoops > 0 && loops >= maxLoops) return -1;
+        return maxSteps - steps;
+    }
+
     private void readFromNBT(NBTTagCompound data) {
         this.maxLoops = data.getInteger("max_loops");
         this.loops = data.getInteger("loops");
@@ -120,19 +152,19 @@ public class PulseStepper implements INBTSerializableContext, IStreamable {
 
     @Override
     public boolean readFromStream(ByteBuf stream) {
-        this.maxLoops = stream.readInt();
-        this.loops = stream.readInt();
-        this.maxSteps = stream.readInt();
-        this.steps = stream.readInt();
+        this.maxLoops = StreamUtils.readVarInt(stream);
+        this.loops = StreamUtils.readVarInt(stream);
+        this.maxSteps = StreamUtils.readVarInt(stream);
+        this.steps = StreamUtils.readVarInt(stream);
         return false;
     }
 
     @Override
     public boolean writeToStream(ByteBuf stream) {
-        stream.writeInt(maxLoops);
-        stream.writeInt(loops);
-        stream.writeInt(maxSteps);
-        stream.writeInt(steps);
+        StreamUtils.writeVarInt(stream, maxLoops);
+        StreamUtils.writeVarInt(stream, loops);
+        StreamUtils.writeVarInt(stream, maxSteps);
+        StreamUtils.writeVarInt(stream, steps);
         return false;
     }
 }
@@ -0,0 +1,44 @@
+package growthcraft.core.shared.worldgen;
+
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * A feature generated by the {@link WorldGenScheduler}.
+ */
+public interface IWorldGenFeature {
+    /**
+     * @return name for logs and timings
+     */
+    String getName();
+
+    /**
+     * @param world - world being populated
+     * @return true if the feature generates in the world's dimension
+     */
+    boolean canGenerateIn(@Nonnull World world);
+
+    /**
+     * Asked once per biome, the answer is kept.
+     *
+     * @param biome - biome at the center of the populated area
+     * @return true if the feature may generate in the biome
+     */
+    boolean canGenerateIn(@Nonnull Biome biome);
+
+    /**
+     * Places the feature. Positions are picked in the 16x16 area starting at the origin, a
+     * feature may reach up to 8 blocks past it, the chunks there are loaded already.
+     *
+     * @param world  - world being populated
+     * @param random - random for this feature and chunk
+     * @param origin - the populated chunk's corner plus the usual 8 blocks offset, at y 0
+     * @return true if something was placed
+     */
+    boolean generate(@Nonnull World world, @Nonnull Random random, @Nonnull BlockPos origin);
+}
@@ -0,0 +1,118 @@
+package growthcraft.core.shared.worldgen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.Reference;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.gen.IChunkGenerator;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.IWorldGenerator;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Generates all Growthcraft world features in one pass per chunk.
+ * <p>
+ * Each feature gets its own random, seeded from the chunk's random and the feature's position
+ * in the list, and the area around the chunk's center which vanilla population may write to,
+ * see {@link IWorldGenFeature#generate(World, Random, BlockPos)}. Whether a feature generates
+ * in a biome is asked once per biome. The time spent per feature and chunk loads a feature
+ * caused (cascading generation) are recorded and logged when the server stops.
+ * <p>
+ * World generation runs on the server thread only.
+ */
+public class WorldGenScheduler implements IWorldGenerator {
+    private static final WorldGenScheduler INSTANCE = new WorldGenScheduler();
+
+    private static final byte UNKNOWN = 0;
+    private static final byte ELIGIBLE = 1;
+    private static final byte INELIGIBLE = 2;
+
+    static class Entry {
+        final IWorldGenFeature feature;
+        // by biome id
+        byte[] biomes = new byte[256];
+        long nanos;
+        int chunks;
+        int placed;
+        int cascades;
+
+        Entry(IWorldGenFeature feature) {
+            this.feature = feature;
+        }
+
+        boolean canGenerateIn(Biome biome) {
+            final int id = Biome.getIdForBiome(biome);
+            if (id < 0) return feature.canGenerateIn(biome);
+            if (id >= biomes.length) biomes = Arrays.copyOf(biomes, Math.max(id + 1, biomes.length * 2));
+            if (biomes[id] == UNKNOWN) biomes[id] = feature.canGenerateIn(biome) ? ELIGIBLE : INELIGIBLE;
+            return biomes[id] == ELIGIBLE;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<Entry>();
+    private final Random featureRandom = new Random();
+
+    private WorldGenScheduler() {
+    }
+
+    public static WorldGenScheduler instance() {
+        return INSTANCE;
+    }
+
+    public void addFeature(@Nonnull IWorldGenFeature feature) {
+        entries.add(new Entry(feature));
+    }
+
+    private static int loadedChunks(IChunkProvider provider) {
+        return provider instanceof ChunkProviderServer ? ((ChunkProviderServer) provider).getLoadedChunkCount() : 0;
+    }
+
+    @Override
+    public void generate(Random random, int chunkX, int chunkZ, World world, IChunkGenerator chunkGenerator, IChunkProvider chunkProvider) {
+        if (entries.isEmpty()) return;
+        final BlockPos origin = new BlockPos(chunkX * 16 + 8, 0, chunkZ * 16 + 8);
+        final Biome biome = world.getBiome(origin.add(8, 0, 8));
+        final long seed = random.nextLong();
+        world.profiler.startSection("growthcraft_worldgen");
+        try {
+            for (int i = 0; i < entries.size(); ++i) {
+                final Entry entry = entries.get(i);
+                if (!entry.feature.canGenerateIn(world) || !entry.canGenerateIn(biome)) continue;
+
+                final long start = System.nanoTime();
+                final int loaded = loadedChunks(world.getChunkProvider());
+                featureRandom.setSeed(seed + i * 341873128712L);
+                if (entry.feature.generate(world, featureRandom, origin)) entry.placed++;
+                entry.nanos += System.nanoTime() - start;
+                entry.chunks++;
+                if (loadedChunks(world.getChunkProvider()) > loaded && entry.cascades++ == 0) {
+                    GrowthcraftLogger.getLogger(Reference.MODID).warn("World feature {} loaded chunks while populating chunk {}, {}", entry.feature.getName(), chunkX, chunkZ);
+                }
+            }
+        } finally {
+            world.profiler.endSection();
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        // the overworld unloads last, when the server stops
+        if (event.getWorld().isRemote || event.getWorld().provider.getDimension() != 0) return;
+        if (!GrowthcraftLogger.getLogger(Reference.MODID).isDebugEnabled()) return;
+        for (Entry entry : entries) {
+            if (entry.chunks == 0) continue;
+            GrowthcraftLogger.getLogger(Reference.MODID).debug("World feature {}: {} chunks, {} placed, {} us per chunk, {} cascading chunk loads",
+                    entry.feature.getName(), entry.chunks, entry.placed, entry.nanos / 1000L / entry.chunks, entry.cascades);
+        }
+    }
+}
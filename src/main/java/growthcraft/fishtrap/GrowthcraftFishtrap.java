@@ -4,6 +4,7 @@ import growthcraft.core.shared.inventory.GrowthcraftGuiProvider;
 import growthcraft.fishtrap.client.gui.GuiHandler;
 import growthcraft.fishtrap.common.CommonProxy;
 import growthcraft.fishtrap.common.Init;
+import growthcraft.fishtrap.common.utils.FishtrapLoot;
 import growthcraft.fishtrap.shared.Reference;
 import growthcraft.fishtrap.shared.config.GrowthcraftFishtrapConfig;
 import net.minecraft.block.Block;
@@ -63,6 +64,7 @@ public class GrowthcraftFishtrap {
     @Mod.EventHandler
     public void construct(FMLConstructionEvent event) {
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.register(FishtrapLoot.instance());
     }
 
     @SubscribeEvent
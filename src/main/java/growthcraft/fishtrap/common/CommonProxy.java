@@ -1,8 +1,8 @@
 package growthcraft.fishtrap.common;
 
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
 import growthcraft.fishtrap.common.tileentity.TileEntityFishtrap;
 import growthcraft.fishtrap.shared.Reference;
-import net.minecraftforge.fml.common.registry.GameRegistry;
 
 public class CommonProxy {
 
@@ -17,9 +17,8 @@ public class CommonProxy {
 
     }
 
-    @SuppressWarnings("deprecation")
     public void registerTileEntities() {
-        GameRegistry.registerTileEntity(TileEntityFishtrap.class, Reference.MODID + ":fishtrap");
+        GrowthcraftTileBase.registerTileEntity(TileEntityFishtrap.class, Reference.MODID + ":fishtrap");
     }
 
     public void postRegisterItems() {
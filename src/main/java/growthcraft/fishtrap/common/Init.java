@@ -1,6 +1,7 @@
 package growthcraft.fishtrap.common;
 
 import growthcraft.core.shared.definition.BlockDefinition;
+import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
 import growthcraft.fishtrap.common.block.BlockFishtrap;
 import growthcraft.fishtrap.common.tileentity.TileEntityFishtrap;
 import growthcraft.fishtrap.shared.Reference;
@@ -45,7 +46,7 @@ public class Init {
     }
 
     public static void registerTileEntities() {
-        GameRegistry.registerTileEntity(TileEntityFishtrap.class, Reference.MODID + ":fishtrap");
+        GrowthcraftTileBase.registerTileEntity(TileEntityFishtrap.class, Reference.MODID + ":fishtrap");
     }
 
     //////////
@@ -2,6 +2,7 @@ package growthcraft.fishtrap.common.tileentity;
 
 import growthcraft.core.shared.tileentity.feature.IInteractionObject;
 import growthcraft.fishtrap.common.container.ContainerFishtrap;
+import growthcraft.fishtrap.common.utils.FishtrapLoot;
 import growthcraft.fishtrap.common.utils.GrowthcraftPlaySound;
 import growthcraft.fishtrap.shared.config.GrowthcraftFishtrapConfig;
 import net.minecraft.block.Block;
@@ -18,12 +19,9 @@ import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
-import net.minecraft.world.storage.loot.LootContext;
-import net.minecraft.world.storage.loot.LootTableList;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.fml.relauncher.Side;
@@ -32,7 +30,6 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
-import net.minecraftforge.oredict.OreDictionary;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -40,6 +37,9 @@ import java.util.Random;
 
 public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabilityProvider, IInteractionObject {
 
+    private static final int OUTPUT_SLOTS = 6;
+    private static final int ALL_OUTPUT_FULL = (1 << OUTPUT_SLOTS) - 1;
+
     private int cooldown;
     private int randomMaxCooldown;
     private int intMinCooldown = 256;
@@ -47,17 +47,30 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
     private Random rand;
     private ItemStackHandler handlerOutput;
     private ItemStackHandler handlerInput;
+    private CombinedInvWrapper handlerCombined;
+    // One bit per full output slot
+    private int fullOutputSlots;
+    // World time of the last save, -1 if unknown
+    private long savedAt = -1;
+    private boolean catchUpPending;
 
 
     public TileEntityFishtrap() {
         this.cooldown = 0;
         this.randomMaxCooldown = intMaxCooldown;
-        this.handlerOutput = new ItemStackHandler(6) {
+        this.handlerOutput = new ItemStackHandler(OUTPUT_SLOTS) {
             @Override
             protected void onContentsChanged(int slot) {
                 super.onContentsChanged(slot);
+                updateFullOutputSlot(slot);
                 markDirty();
             }
+
+            @Override
+            protected void onLoad() {
+                super.onLoad();
+                updateFullOutputSlots();
+            }
         };
         this.handlerInput = new ItemStackHandler(1) {
             @Override
@@ -75,27 +88,43 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
 
     private void doFishing() {
         if (!getWorld().isRemote) {
-            // If strictBait is required then we need to ensure there is bait also if bait is required then we need
-            // to ensure that there is any bait.
-            if (GrowthcraftFishtrapConfig.strictBait && !hasBait(GrowthcraftFishtrapConfig.strictBait)
-                    || GrowthcraftFishtrapConfig.baitRequired && !hasBait()) {
-                return;
-            }
+            catchFish();
+        }
+        GrowthcraftPlaySound.onlyNearByPlayers(this.world, pos, SoundEvents.BLOCK_TRIPWIRE_CLICK_ON, SoundCategory.BLOCKS, 3);
 
-            // Get a random item from the Fishing_Rod LootTable. Pulled this from the EntityFishHook class.
-            LootContext.Builder lootContextBuilder = new LootContext.Builder((WorldServer) this.world);
-            List<ItemStack> result = this.world.getLootTableManager().getLootTableFromLocation(
-                    this.getLootTableList()).generateLootForPools(new Random(),
-                    lootContextBuilder.build());
+    }
 
-            for (ItemStack itemstack : result) {
-                if (!this.isInventoryFull(this.handlerOutput)) {
-                    this.addStackToInventory(this.handlerOutput, itemstack, false);
-                }
+    private void catchFish() {
+        // If strictBait is required then we need to ensure there is bait also if bait is required then we need
+        // to ensure that there is any bait.
+        if (GrowthcraftFishtrapConfig.strictBait && !hasBait(GrowthcraftFishtrapConfig.strictBait)
+                || GrowthcraftFishtrapConfig.baitRequired && !hasBait()) {
+            return;
+        }
+
+        // Get a random item from the Fishing_Rod LootTable, the tables are resolved once per world.
+        List<ItemStack> result = FishtrapLoot.instance().generate((WorldServer) this.world, this.useBait(), this.rand);
+
+        boolean rejected = false;
+        for (ItemStack itemstack : result) {
+            if (!this.isOutputFull()) {
+                if (!this.addStackToInventory(this.handlerOutput, itemstack, false).isEmpty()) rejected = true;
             }
         }
-        GrowthcraftPlaySound.onlyNearByPlayers(this.world, pos, SoundEvents.BLOCK_TRIPWIRE_CLICK_ON, SoundCategory.BLOCKS, 3);
+        // stacks grown in place by a container don't report, so the full slots may be out of date
+        if (rejected) updateFullOutputSlots();
+    }
 
+    /**
+     * Catches up on the catches missed while the chunk wasn't loaded, at most catchUpLimit.
+     */
+    private void catchUp() {
+        if (this.world.isRemote || this.savedAt < 0 || GrowthcraftFishtrapConfig.catchUpLimit <= 0) return;
+        final long missed = (this.world.getTotalWorldTime() - this.savedAt) / ((intMinCooldown + intMaxCooldown) / 2);
+        if (missed <= 0 || !inWater()) return;
+        for (long i = Math.min(missed, GrowthcraftFishtrapConfig.catchUpLimit); i > 0 && !isOutputFull(); --i) {
+            catchFish();
+        }
     }
 
     public boolean hasBait() {
@@ -104,33 +133,23 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
 
     public boolean hasBait(boolean strict) {
         if (strict) {
-            List<ItemStack> oreDictionaryBaitFishing = OreDictionary.getOres("baitFishing");
-            ItemStack baitStack = this.handlerInput.getStackInSlot(0);
-            for (ItemStack itemStack : oreDictionaryBaitFishing) {
-                if (itemStack.getUnlocalizedName().contentEquals(baitStack.getUnlocalizedName())) {
-                    return true;
-                }
-            }
-            return false;
+            return FishtrapLoot.instance().isBait(this.handlerInput.getStackInSlot(0));
         }
         return this.handlerInput.getStackInSlot(0).getCount() > 0;
     }
 
     /**
-     * Determine which loot table should be used.
+     * Uses up one bait if there is any, baited traps only catch fish.
      *
-     * @return ResourceLocation of the LootTable
+     * @return true if bait was used
      */
-    private ResourceLocation getLootTableList() {
-        ResourceLocation lootTableList;
-        lootTableList = LootTableList.GAMEPLAY_FISHING;
-
+    private boolean useBait() {
         if (this.handlerInput.getStackInSlot(0).getCount() > 0) {
             this.handlerInput.getStackInSlot(0).shrink(1);
-            lootTableList = LootTableList.GAMEPLAY_FISHING_FISH;
+            markDirty();
+            return true;
         }
-
-        return lootTableList;
+        return false;
     }
 
     /**
@@ -155,6 +174,7 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
     public NBTTagCompound writeToNBT(NBTTagCompound compound) {
         compound.setTag("handler_output", handlerOutput.serializeNBT());
         compound.setTag("handler_input", handlerInput.serializeNBT());
+        if (this.world != null) compound.setLong("saved_at", this.world.getTotalWorldTime());
         return super.writeToNBT(compound);
     }
 
@@ -162,27 +182,46 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
     public void readFromNBT(NBTTagCompound compound) {
         handlerOutput.deserializeNBT(compound.getCompoundTag("handler_output"));
         handlerInput.deserializeNBT(compound.getCompoundTag("handler_input"));
+        this.savedAt = compound.hasKey("saved_at") ? compound.getLong("saved_at") : -1;
+        this.catchUpPending = true;
         super.readFromNBT(compound);
     }
 
+    private void updateFullOutputSlot(int slot) {
+        if (this.handlerOutput.getStackInSlot(slot).getCount() == this.handlerOutput.getSlotLimit(slot)) {
+            this.fullOutputSlots |= 1 << slot;
+        } else {
+            this.fullOutputSlots &= ~(1 << slot);
+        }
+    }
+
+    private void updateFullOutputSlots() {
+        for (int slot = 0; slot < OUTPUT_SLOTS; slot++) {
+            updateFullOutputSlot(slot);
+        }
+    }
+
     /**
-     * Check if the inventory handler is full.
+     * Check if the output slots are full, kept up to date as the slots change.
      */
-    private boolean isInventoryFull(IItemHandler handler) {
-        int filledSlots = 0;
-        for (int slot = 0; slot < handler.getSlots(); slot++) {
-            if (handler.getStackInSlot(slot).getCount() == handler.getSlotLimit(slot)) filledSlots++;
-        }
-        return filledSlots == handler.getSlots();
+    private boolean isOutputFull() {
+        if (this.fullOutputSlots != ALL_OUTPUT_FULL) return false;
+        // stacks shrunk in place by a container don't report, make sure before giving up
+        updateFullOutputSlots();
+        return this.fullOutputSlots == ALL_OUTPUT_FULL;
     }
 
     @Override
     public void update() {
+        if (this.catchUpPending) {
+            this.catchUpPending = false;
+            catchUp();
+        }
         this.cooldown++;
         this.cooldown %= this.randomMaxCooldown;
         if (cooldown == 0) {
             this.randomMaxCooldown = getRandomCooldown();
-            if (inWater() && !isInventoryFull(this.handlerOutput)) {
+            if (!isOutputFull() && inWater()) {
                 this.doFishing();
             }
         }
@@ -267,7 +306,10 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
         if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
 
             if (facing == null) {
-                return (T) new CombinedInvWrapper(handlerInput, handlerOutput);
+                if (handlerCombined == null) {
+                    this.handlerCombined = new CombinedInvWrapper(handlerInput, handlerOutput);
+                }
+                return (T) this.handlerCombined;
             }
 
             switch (facing) {
@@ -291,7 +333,10 @@ public class TileEntityFishtrap extends TileEntity implements ITickable, ICapabi
 
     @Override
     public boolean hasCapability(@Nullable Capability<?> capability, @Nullable EnumFacing facing) {
-        return this.getCapability(capability, facing) != null;
+        if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
+            return facing == null || facing == EnumFacing.UP || facing == EnumFacing.DOWN;
+        }
+        return super.hasCapability(capability, facing);
     }
 
     @Override
@@ -0,0 +1,132 @@
+package growthcraft.fishtrap.common.utils;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.loot.LootContext;
+import net.minecraft.world.storage.loot.LootTable;
+import net.minecraft.world.storage.loot.LootTableList;
+import net.minecraftforge.event.LootTableLoadEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+
+/**
+ * Fishing loot for the fishtraps.
+ * <p>
+ * The loot tables and the loot context are resolved once per world and kept until the loot
+ * tables are reloaded, the "baitFishing" ore entries are turned into an item lookup once and
+ * kept until an item is added to the ore name.
+ */
+public class FishtrapLoot {
+    public static final String BAIT_ORE = "baitFishing";
+
+    private static final FishtrapLoot INSTANCE = new FishtrapLoot();
+
+    static class WorldLoot {
+        final LootTable fishing;
+        final LootTable fish;
+        final LootContext context;
+
+        WorldLoot(WorldServer world) {
+            this.fishing = world.getLootTableManager().getLootTableFromLocation(LootTableList.GAMEPLAY_FISHING);
+            this.fish = world.getLootTableManager().getLootTableFromLocation(LootTableList.GAMEPLAY_FISHING_FISH);
+            this.context = new LootContext.Builder(world).build();
+        }
+    }
+
+    private final Map<WorldServer, WorldLoot> worlds = new WeakHashMap<WorldServer, WorldLoot>();
+    // bait item to its accepted metadata, null metadata accepts any
+    private volatile Map<Item, IntOpenHashSet> bait;
+
+    private FishtrapLoot() {
+    }
+
+    public static FishtrapLoot instance() {
+        return INSTANCE;
+    }
+
+    private WorldLoot getWorldLoot(WorldServer world) {
+        synchronized (worlds) {
+            WorldLoot loot = worlds.get(world);
+            if (loot == null) {
+                loot = new WorldLoot(world);
+                worlds.put(world, loot);
+            }
+            return loot;
+        }
+    }
+
+    /**
+     * @param world  - world to fish in
+     * @param baited - use the fish only table, the trap had bait
+     * @param rand   - the trap's random
+     * @return the catch
+     */
+    public List<ItemStack> generate(@Nonnull WorldServer world, boolean baited, @Nonnull Random rand) {
+        final WorldLoot loot = getWorldLoot(world);
+        return (baited ? loot.fish : loot.fishing).generateLootForPools(rand, loot.context);
+    }
+
+    private Map<Item, IntOpenHashSet> getBait() {
+        Map<Item, IntOpenHashSet> table = bait;
+        if (table == null) {
+            table = new Reference2ObjectOpenHashMap<Item, IntOpenHashSet>();
+            for (ItemStack stack : OreDictionary.getOres(BAIT_ORE)) {
+                if (stack.isEmpty()) continue;
+                final Item item = stack.getItem();
+                if (stack.getMetadata() == OreDictionary.WILDCARD_VALUE) {
+                    table.put(item, null);
+                } else if (!table.containsKey(item)) {
+                    final IntOpenHashSet metas = new IntOpenHashSet(2);
+                    metas.add(stack.getMetadata());
+                    table.put(item, metas);
+                } else if (table.get(item) != null) {
+                    table.get(item).add(stack.getMetadata());
+                }
+            }
+            this.bait = table;
+        }
+        return table;
+    }
+
+    /**
+     * @param stack - stack to test
+     * @return true if the stack is registered as "baitFishing"
+     */
+    public boolean isBait(@Nonnull ItemStack stack) {
+        if (stack.isEmpty()) return false;
+        final Map<Item, IntOpenHashSet> table = getBait();
+        if (!table.containsKey(stack.getItem())) return false;
+        final IntOpenHashSet metas = table.get(stack.getItem());
+        return metas == null || metas.contains(stack.getMetadata());
+    }
+
+    @SubscribeEvent
+    public void onLootTableLoad(LootTableLoadEvent event) {
+        // a table is (re)loaded, the resolved ones may be stale
+        synchronized (worlds) {
+            worlds.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+        if (BAIT_ORE.equals(event.getName())) this.bait = null;
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        synchronized (worlds) {
+            worlds.remove(event.getWorld());
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class GrowthcraftFishtrapConfig {
 
     public static boolean baitRequired = false;
     public static boolean strictBait = false;
+    public static int catchUpLimit = 0;
     public static List<String> FISHTRAP_BAIT_TABLE = new ArrayList<String>() {{
         add("minecraft:rotten_flesh");
         add("minecraft:fish");
@@ -74,6 +75,14 @@ public class GrowthcraftFishtrapConfig {
                 strictBait,
                 "Only bait in the authorizedFishBait list will be allowed."
         );
+        catchUpLimit = configuration.getInt(
+                "catchUpLimit",
+                CATEGORY_FISHTRAP,
+                catchUpLimit,
+                0,
+                64,
+                "Catches a fishtrap may make at once for the time its chunk wasn't loaded, 0 disables catching up."
+        );
 
         FISHTRAP_BAIT_TABLE = Arrays.asList(configuration.getStringList(
                 "fishtrap_bait_list",
@@ -3,6 +3,7 @@ package growthcraft.grapes;
 import growthcraft.core.shared.compat.Compat;
 import growthcraft.grapes.common.CommonProxy;
 import growthcraft.grapes.common.Init;
+import growthcraft.grapes.common.blocks.BlockGrapeVine1;
 import growthcraft.grapes.common.compat.rustic.RusticGrapesRecipes;
 import growthcraft.grapes.common.compat.thaumcraft.GrapesAspectRegistry;
 import growthcraft.grapes.common.handler.HarvestDropsEventHandler;
@@ -68,6 +69,7 @@ public class GrowthcraftGrapes {
     @Mod.EventHandler
     public void construct(FMLConstructionEvent event) {
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.register(BlockGrapeVine1.TRUNKS);
     }
 
     @SubscribeEvent
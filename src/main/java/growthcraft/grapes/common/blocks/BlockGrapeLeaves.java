@@ -3,6 +3,7 @@ package growthcraft.grapes.common.blocks;
 import growthcraft.core.shared.block.BlockCheck;
 import growthcraft.core.shared.block.BlockFlags;
 import growthcraft.core.shared.block.IBlockRope;
+import growthcraft.core.shared.block.RopeConnections;
 import growthcraft.core.shared.init.GrowthcraftCoreBlocks;
 import growthcraft.core.shared.init.GrowthcraftCoreItems;
 import growthcraft.grapes.common.utils.GrapeBlockCheck;
@@ -272,17 +273,8 @@ public class BlockGrapeLeaves extends BlockBush implements IGrowable, IBlockRope
         // Fast check, is there a trunk below this pos? Otherwise we have to go find one.
         if (this.isSupportedByTrunk(world, pos)) {
             return true;
-        } else {
-            for (BlockPos.MutableBlockPos blockpos$mutableblockpos : BlockPos.getAllInBoxMutable(
-                    pos.add(-(grapeVineSupportedLength), 0, -(grapeVineSupportedLength)),
-                    pos.add(grapeVineSupportedLength, 0, grapeVineSupportedLength)
-            )) {
-                if (isSupportedByTrunk(world, blockpos$mutableblockpos)) {
-                    return true;
-                }
-            }
         }
-        return false;
+        return BlockGrapeVine1.TRUNKS.any(world, pos.down(), grapeVineSupportedLength, 0, grapeVineSupportedLength);
     }
 
     /**
@@ -319,7 +311,7 @@ public class BlockGrapeLeaves extends BlockBush implements IGrowable, IBlockRope
     @Override
     public boolean canConnectRopeTo(IBlockAccess world, BlockPos pos, EnumFacing facing) {
         Block block = world.getBlockState(pos.offset(facing)).getBlock();
-        return block instanceof IBlockRope;
+        return RopeConnections.isRope(block);
     }
 
     @Override
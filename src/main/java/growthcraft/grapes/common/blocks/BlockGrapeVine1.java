@@ -2,6 +2,7 @@ package growthcraft.grapes.common.blocks;
 
 import growthcraft.core.shared.block.BlockCheck;
 import growthcraft.core.shared.block.BlockFlags;
+import growthcraft.core.shared.block.BlockPopulationIndex;
 import growthcraft.grapes.shared.config.GrowthcraftGrapesConfig;
 import net.minecraft.block.BlockDirt;
 import net.minecraft.block.BlockGrass;
@@ -27,6 +28,9 @@ public class BlockGrapeVine1 extends BlockGrapeVineBase {
 
     public static final int MAX_GROWTH_HEIGHT = 5 - 1;    // 1 for the rope
 
+    // Where the trunks are, used by the leaves to find their support
+    public static final BlockPopulationIndex TRUNKS = new BlockPopulationIndex(state -> state.getBlock() instanceof BlockGrapeVine1);
+
     private final BlockGrapeLeaves blockLeaves;
 
     public BlockGrapeVine1(BlockGrapeLeaves blockLeaves) {
@@ -115,11 +119,11 @@ public class BlockGrapeVine1 extends BlockGrapeVineBase {
 
 
     @Override
-    protected float getGrowthRate(World world, BlockPos pos) {
+    public BlockPos getGrowthRoot(World world, BlockPos pos) {
         if (world.getBlockState(pos.down(1)).getBlock() == this && world.getBlockState(pos.down(2)).getBlock() == Blocks.FARMLAND) {
-            return super.getGrowthRate(world, pos.down());
+            return pos.down();
         }
-        return super.getGrowthRate(world, pos);
+        return pos;
     }
 
     @SideOnly(Side.CLIENT)
@@ -127,6 +131,18 @@ public class BlockGrapeVine1 extends BlockGrapeVineBase {
         return BlockRenderLayer.CUTOUT;
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state) {
+        super.onBlockAdded(worldIn, pos, state);
+        TRUNKS.onAdded(worldIn, pos);
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state) {
+        TRUNKS.onRemoved(worldIn, pos);
+        super.breakBlock(worldIn, pos, state);
+    }
+
     /************
      * CONDITIONS
      ************/
@@ -2,10 +2,10 @@ package growthcraft.grapes.common.blocks;
 
 import growthcraft.core.shared.block.BlockCheck;
 import growthcraft.core.shared.block.BlockFlags;
+import growthcraft.core.shared.block.CropEnvironment;
 import growthcraft.core.shared.block.ICropDataProvider;
 import growthcraft.grapes.common.utils.GrapeBlockCheck;
 import net.minecraft.block.BlockBush;
-import net.minecraft.block.BlockCrops;
 import net.minecraft.block.IGrowable;
 import net.minecraft.block.properties.PropertyInteger;
 import net.minecraft.block.state.BlockFaceShape;
@@ -81,7 +81,7 @@ public abstract class BlockGrapeVineBase extends BlockBush implements IPlantable
     }
 
     protected float getGrowthRate(World world, BlockPos pos) {
-        return BlockCrops.getGrowthChance(this, world, pos);
+        return CropEnvironment.instance().getGrowthChance(this, world, pos);
     }
 
     @Override
@@ -2,8 +2,10 @@ package growthcraft.hops.common.block;
 
 import growthcraft.core.shared.block.BlockCheck;
 import growthcraft.core.shared.block.BlockFlags;
+import growthcraft.core.shared.block.CropEnvironment;
 import growthcraft.core.shared.block.IBlockRope;
 import growthcraft.core.shared.block.ICropDataProvider;
+import growthcraft.core.shared.block.RopeConnections;
 import growthcraft.core.shared.init.GrowthcraftCoreBlocks;
 import growthcraft.core.shared.init.GrowthcraftCoreItems;
 import growthcraft.hops.shared.Reference;
@@ -69,6 +71,9 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
     public static final PropertyBool UP = PropertyBool.create("up");
     public static final PropertyBool DOWN = PropertyBool.create("down");
 
+    // actual state by age, opaque block below and rope connection mask
+    private final IBlockState[] connectedStates = new IBlockState[(HopsStage.FRUIT + 1) * 2 * (RopeConnections.ALL + 1)];
+
     private static Random rand = new Random();
 
     public BlockHops(String unlocalizedName) {
@@ -86,6 +91,19 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
                 .withProperty(WEST, Boolean.valueOf(false))
                 .withProperty(UP, Boolean.valueOf(false))
                 .withProperty(DOWN, Boolean.valueOf(false)));
+
+        for (int i = 0; i < connectedStates.length; i++) {
+            final int mask = i & RopeConnections.ALL;
+            connectedStates[i] = this.getDefaultState()
+                    .withProperty(AGE, i >> 7)
+                    .withProperty(OPAQUEBELOW, (i & 0x40) != 0)
+                    .withProperty(NORTH, (mask & RopeConnections.bit(EnumFacing.NORTH)) != 0)
+                    .withProperty(EAST, (mask & RopeConnections.bit(EnumFacing.EAST)) != 0)
+                    .withProperty(SOUTH, (mask & RopeConnections.bit(EnumFacing.SOUTH)) != 0)
+                    .withProperty(WEST, (mask & RopeConnections.bit(EnumFacing.WEST)) != 0)
+                    .withProperty(UP, (mask & RopeConnections.bit(EnumFacing.UP)) != 0)
+                    .withProperty(DOWN, (mask & RopeConnections.bit(EnumFacing.DOWN)) != 0);
+        }
     }
 
     @Override
@@ -181,6 +199,8 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
         int nextAge = getAge(state) + 1;
         if (nextAge <= HopsStage.FRUIT) {
             world.setBlockState(pos, state.withProperty(AGE, nextAge), BlockFlags.SYNC);
+            // a grown bine may become the root of the vines above
+            CropEnvironment.instance().invalidate(world, pos);
             // TODO: AppleCore.announceGrowthTick(this, world, x, y, z, previousMetadata);
         }
     }
@@ -195,24 +215,25 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
         return BlockCheck.isRope(upState.getBlock()) && this.isSupported(world, up, upState);
     }
 
-    private float getGrowthRateLoop(World world, BlockPos pos, IBlockState state) {
+    @Override
+    public BlockPos getGrowthRoot(World world, BlockPos pos) {
         if (BlockCheck.canSustainPlant(world, pos.down(), EnumFacing.UP, this)) {
-            return getGrowthRate(world, pos);
+            return pos;
         } else {
             for (int loop = 1; loop < 5; ++loop) {
                 BlockPos dwn = pos.down(loop);
                 IBlockState dwnState = world.getBlockState(dwn);
 
                 if (dwnState.getBlock() != this) {
-                    return getGrowthRate(world, pos);
+                    return pos;
                 }
 
                 if (isVineRoot(world, dwn, dwnState)) {
-                    return getGrowthRate(world, dwn);
+                    return dwn;
                 }
             }
 
-            return getGrowthRate(world, pos);
+            return pos;
         }
     }
 
@@ -233,7 +254,7 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
             return;
 
         int age = getAge(state);
-        final float f = this.getGrowthRateLoop(worldIn, pos, state);
+        final float f = this.getGrowthRate(worldIn, pos);
 
         if (age < HopsStage.BIG) {
             if (allowGrowthResult == Event.Result.ALLOW || (rand.nextInt((int) (this.hopVineGrowthRate / f) + 1) == 0)) {
@@ -251,7 +272,7 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
     }
 
     private float getGrowthRate(World world, BlockPos pos) {
-        return BlockCrops.getGrowthChance(this, world, pos);
+        return CropEnvironment.instance().getGrowthChance(this, world, pos);
     }
 
     public void removeFruit(World world, BlockPos pos, IBlockState state) {
@@ -366,7 +387,7 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
     @Override
     public boolean canConnectRopeTo(IBlockAccess world, BlockPos pos, EnumFacing facing) {
         Block block = world.getBlockState(pos.offset(facing)).getBlock();
-        return block instanceof IBlockRope;
+        return RopeConnections.isRope(block);
     }
 
     @Override
@@ -461,13 +482,9 @@ public class BlockHops extends BlockBush implements IBlockRope, IPlantable, ICro
     public IBlockState getActualState(IBlockState state, IBlockAccess worldIn, BlockPos pos) {
         IBlockState stateBelow = worldIn.getBlockState(pos.down());
 
-        return state
-                .withProperty(OPAQUEBELOW, stateBelow.isOpaqueCube())
-                .withProperty(NORTH, canConnectRopeTo(worldIn, pos, EnumFacing.NORTH))
-                .withProperty(EAST, canConnectRopeTo(worldIn, pos, EnumFacing.EAST))
-                .withProperty(SOUTH, canConnectRopeTo(worldIn, pos, EnumFacing.SOUTH))
-                .withProperty(WEST, canConnectRopeTo(worldIn, pos, EnumFacing.WEST))
-                .withProperty(UP, canConnectRopeTo(worldIn, pos, EnumFacing.UP))
-                .withProperty(DOWN, canConnectRopeTo(worldIn, pos, EnumFacing.DOWN));
+        int index = getAge(state) << 7 | RopeConnections.getRopeMask(worldIn, pos);
+        if (stateBelow.isOpaqueCube())
+            index |= 0x40;
+        return connectedStates[index];
     }
 }
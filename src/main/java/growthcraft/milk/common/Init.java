@@ -79,7 +79,7 @@ import java.util.Map;
 
 import static growthcraft.core.shared.GrowthcraftCoreApis.tabGrowthcraft;
 import static growthcraft.milk.shared.init.GrowthcraftMilkFluids.kumisBooze;
-import static net.minecraftforge.fml.common.registry.GameRegistry.registerTileEntity;
+import static growthcraft.core.shared.tileentity.GrowthcraftTileBase.registerTileEntity;
 
 public class Init {
     private Init() {
@@ -5,9 +5,11 @@ import java.io.IOException;
 import growthcraft.core.shared.fluids.FluidTest;
 import growthcraft.core.shared.inventory.AccesibleSlots;
 import growthcraft.core.shared.inventory.GrowthcraftInternalInventory;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.tileentity.GrowthcraftTileDeviceBase;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.IItemOperable;
 import growthcraft.core.shared.item.ItemUtils;
@@ -43,6 +45,7 @@ public class TileEntityButterChurn extends GrowthcraftTileDeviceBase implements
     private DeviceFluidSlot inputFluidSlot = new DeviceFluidSlot(this, 0);
     private DeviceFluidSlot outputFluidSlot = new DeviceFluidSlot(this, 1);
     private DeviceInventorySlot outputInventorySlot = new DeviceInventorySlot(this, 0);
+    private final RecipeCache<IChurnRecipe> recipeCache = new RecipeCache<IChurnRecipe>();
 
     @Override
     protected FluidTank[] createTanks() {
@@ -83,11 +86,19 @@ public class TileEntityButterChurn extends GrowthcraftTileDeviceBase implements
         return accessibleSlots.sideContains(side, index);
     }
 
+    @Override
+    protected void markFluidDirty() {
+        super.markFluidDirty();
+        recipeCache.invalidate();
+    }
+
     private IChurnRecipe getWorkingRecipe() {
         final FluidStack stack = inputFluidSlot.get();
         if (stack != null) {
-            final IChurnRecipe recipe = MilkRegistry.instance().churn().getRecipe(stack);
-            return recipe;
+            if (!recipeCache.begin().put(stack).isUnchanged()) {
+                recipeCache.set(MilkRegistry.instance().churn().getRecipe(stack));
+            }
+            return recipeCache.get();
         }
         return null;
     }
@@ -224,15 +235,15 @@ public class TileEntityButterChurn extends GrowthcraftTileDeviceBase implements
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
     public boolean readFromStream_ButterChurn(ByteBuf stream) throws IOException {
-        this.shaftState = stream.readInt();
-        this.churns = stream.readInt();
+        this.shaftState = StreamUtils.readVarInt(stream);
+        this.churns = StreamUtils.readVarInt(stream);
         return false;
     }
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
     public boolean writeToStream_ButterChurn(ByteBuf stream) throws IOException {
-        stream.writeInt(shaftState);
-        stream.writeInt(churns);
+        StreamUtils.writeVarInt(stream, shaftState);
+        StreamUtils.writeVarInt(stream, churns);
         return false;
     }
 }
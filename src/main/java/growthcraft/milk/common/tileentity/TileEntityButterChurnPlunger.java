@@ -31,6 +31,9 @@ public class TileEntityButterChurnPlunger extends GrowthcraftTileBase implements
             if (animDir > 0 && animProgress < 1.0f || animDir < 0 && animProgress > 0) {
                 this.animProgress = MathHelper.clamp(this.animProgress + step * animDir, 0.0f, 1.0f);
             }
+        } else {
+            // the plunger only animates on the client
+            sleep();
         }
     }
 	
@@ -5,8 +5,10 @@ import java.util.List;
 
 import growthcraft.core.shared.io.nbt.INBTItemSerializable;
 import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
+import growthcraft.core.shared.tileentity.TileWakeScheduler;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.IItemOperable;
+import growthcraft.core.shared.tileentity.feature.ITileWakeable;
 import growthcraft.core.shared.item.ItemTest;
 import growthcraft.core.shared.item.ItemUtils;
 import growthcraft.milk.GrowthcraftMilk;
@@ -22,16 +24,18 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemSword;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.oredict.OreDictionary;
 
-public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITickable, IItemOperable, INBTItemSerializable {
+public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITileWakeable, IItemOperable, INBTItemSerializable {
     private Cheese cheese = new Cheese();
+    // World time the cheese was aged up to, -1 until the tile is in a world
+    private long agedUntil = -1;
 
     public List<ItemStack> populateDrops(List<ItemStack> list) {
+        if (world != null && !world.isRemote) catchUp();
         // Populate drop with top cheese wheel
         {
             ItemStack stack = null;
@@ -101,6 +105,7 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
     @TileEventHandler(event = TileEventHandler.EventType.NBT_READ)
     public void readFromNBT_CheeseBlock(NBTTagCompound nbt) {
         readCheeseFromNBT(nbt);
+        this.agedUntil = nbt.hasKey("aged_until") ? nbt.getLong("aged_until") : -1;
     }
 
     protected void writeCheeseToNBT(NBTTagCompound nbt) {
@@ -109,6 +114,8 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
 
     @Override
     public void writeToNBTForItem(NBTTagCompound nbt) {
+        // the item carries no time, so it has to be as of now
+        if (world != null && !world.isRemote) catchUp();
         super.writeToNBTForItem(nbt);
         writeCheeseToNBT(nbt);
     }
@@ -116,9 +123,12 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
     @TileEventHandler(event = TileEventHandler.EventType.NBT_WRITE)
     public void writeToNBT_CheeseBlock(NBTTagCompound nbt) {
         writeCheeseToNBT(nbt);
+        // the age is as of this time, the time in between is caught up on when loaded again
+        nbt.setLong("aged_until", agedUntil);
     }
 
     public ItemStack asItemStack() {
+        if (world != null && !world.isRemote) catchUp();
         final ICheeseBlockStackFactory blockStackFactory = cheese.getType().getCheeseBlocks();
         final int numSlices = MathHelper.clamp(cheese.getSlices(), 0, cheese.getTopSlicesMax());    // NOTE: Not a full representation! Is clamped by maximal slices of a single wheel.
         if (numSlices <= 0)
@@ -142,18 +152,44 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
     }
 
     @Override
-    public void update() {
+    public void onLoad() {
+        super.onLoad();
         if (!world.isRemote) {
-            cheese.update();
-            if (cheese.needClientUpdate) {
-                cheese.needClientUpdate = false;
-                if (cheese.hasSlices()) {
-                    markForUpdate();
-                } else {
-                    world.setBlockToAir(getPos());
-                }
+            TileWakeScheduler.instance().schedule(this, world.getTotalWorldTime());
+        }
+    }
+
+    /**
+     * Ages the cheese up to the current world time.
+     */
+    private void catchUp() {
+        final long now = world.getTotalWorldTime();
+        if (agedUntil >= 0 && now > agedUntil) {
+            cheese.advance(now - agedUntil);
+        }
+        this.agedUntil = now;
+    }
+
+    private void refresh() {
+        if (cheese.needClientUpdate) {
+            cheese.needClientUpdate = false;
+            if (cheese.hasSlices()) {
+                markForUpdate();
+            } else {
+                world.setBlockToAir(getPos());
+                return;
             }
         }
+        final int ticks = cheese.ticksUntilAged();
+        if (ticks >= 0) {
+            TileWakeScheduler.instance().schedule(this, agedUntil + Math.max(1, ticks));
+        }
+    }
+
+    @Override
+    public void onWake() {
+        catchUp();
+        refresh();
     }
 	
 /*
@@ -167,6 +203,7 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
     @Override
     public boolean tryPlaceItem(IItemOperable.Action action, EntityPlayer player, ItemStack onHand) {
         if (IItemOperable.Action.RIGHT != action) return false;
+        if (!world.isRemote) catchUp();
 
         int consumeAmount = cheese.canWaxing(onHand);
         if (consumeAmount > 0) {
@@ -205,11 +242,13 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
                 player.inventory.setInventorySlotContents(player.inventory.currentItem, ItemStack.EMPTY);
         }
         markDirtyAndUpdate(); // Test, if correct
+        if (!world.isRemote) refresh();
     }
 
     @Override
     public boolean tryTakeItem(IItemOperable.Action action, EntityPlayer player, ItemStack onHand) {
         if (IItemOperable.Action.RIGHT != action) return false;
+        if (!world.isRemote) catchUp();
         if (cheese.isAged()) {
             if (!(onHand.getItem() instanceof ItemSword) &&
                     !ItemTest.itemMatchesOre(onHand, "toolKnife"))
@@ -221,6 +260,7 @@ public class TileEntityCheeseBlock extends GrowthcraftTileBase implements ITicka
             }
             markDirtyAndUpdate();
             cheese.needClientUpdate |= true;
+            if (!world.isRemote) refresh();
             return true;
         }
         return false;
@@ -3,10 +3,12 @@ package growthcraft.milk.common.tileentity;
 import java.io.IOException;
 
 import growthcraft.core.shared.inventory.GrowthcraftInternalInventory;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.item.ItemTest;
 import growthcraft.core.shared.item.ItemUtils;
 import growthcraft.core.shared.tileentity.GrowthcraftTileInventoryBase;
 import growthcraft.core.shared.tileentity.device.DeviceInventorySlot;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.IItemOperable;
 import growthcraft.core.shared.tileentity.feature.ITileProgressiveDevice;
@@ -46,13 +48,22 @@ public class TileEntityCheesePress extends GrowthcraftTileInventoryBase implemen
     private int time;
     private boolean needRecipeRecheck = true;
     private ICheesePressRecipe workingRecipe;
+    private final RecipeCache<ICheesePressRecipe> recipeCache = new RecipeCache<ICheesePressRecipe>();
 
     public void markForRecipeCheck() {
         this.needRecipeRecheck = true;
+        recipeCache.invalidate();
+    }
+
+    private ICheesePressRecipe findRecipe() {
+        if (!recipeCache.begin().put(invSlot.get()).isUnchanged()) {
+            recipeCache.set(MilkRegistry.instance().cheesePress().findRecipe(invSlot.get()));
+        }
+        return recipeCache.get();
     }
 
     private void setupWorkingRecipe() {
-        final ICheesePressRecipe recipe = MilkRegistry.instance().cheesePress().findRecipe(invSlot.get());
+        final ICheesePressRecipe recipe = findRecipe();
         if (recipe != workingRecipe) {
             if (workingRecipe != null) {
                 this.time = 0;
@@ -193,6 +204,8 @@ public class TileEntityCheesePress extends GrowthcraftTileInventoryBase implemen
                 markDirty();
             }
         }
+        // toggling the press and changing the inventory wake it again
+        if (time == 0 && !needRecipeRecheck && (recipe == null || !isPressed())) sleep();
     }
 
     @Override
@@ -281,15 +294,15 @@ public class TileEntityCheesePress extends GrowthcraftTileInventoryBase implemen
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
     public boolean readFromStream_CheesePress(ByteBuf stream) throws IOException {
-        this.screwState = stream.readInt();
-        this.time = stream.readInt();
+        this.screwState = StreamUtils.readVarInt(stream);
+        this.time = StreamUtils.readVarInt(stream);
         return false;
     }
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
     public boolean writeToStream_CheesePress(ByteBuf stream) throws IOException {
-        stream.writeInt(screwState);
-        stream.writeInt(time);
+        StreamUtils.writeVarInt(stream, screwState);
+        StreamUtils.writeVarInt(stream, time);
         return false;
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import growthcraft.core.shared.item.ItemUtils;
 import growthcraft.core.shared.tileentity.GrowthcraftTileDeviceBase;
 import growthcraft.core.shared.tileentity.component.TileHeatingComponent;
 import growthcraft.core.shared.tileentity.device.DeviceFluidSlot;
+import growthcraft.core.shared.tileentity.device.RecipeCache;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.IItemOperable;
 import growthcraft.core.shared.tileentity.feature.ITileHeatedDevice;
@@ -87,6 +88,10 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
     private DeviceFluidSlot rennetFluidSlot = new DeviceFluidSlot(this, FluidTankType.RENNET.id);
     private DeviceFluidSlot wasteFluidSlot = new DeviceFluidSlot(this, FluidTankType.WASTE.id);
     private boolean recheckRecipe;
+    // cheese vat recipes compare fluid tags, so those have to be part of the fingerprint
+    private final RecipeCache<ICheeseVatRecipe> recipeCache = new RecipeCache<ICheeseVatRecipe>().setTrackNBT(true);
+    private final List<FluidStack> recipeFluids = new ArrayList<FluidStack>();
+    private final List<ItemStack> recipeItems = new ArrayList<ItemStack>();
     private TileHeatingComponent heatComponent = new TileHeatingComponent(this, 0.5f);
     private CheeseVatState vatState = CheeseVatState.IDLE;
     private float progress;
@@ -155,6 +160,7 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
 
     public void markForRecipeCheck() {
         this.recheckRecipe = true;
+        recipeCache.invalidate();
     }
 
     @Override
@@ -260,22 +266,41 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
         return false;
     }
 
-    private boolean commitMilkCurdRecipe(boolean checkOnly) {
-        final List<FluidStack> fluids = new ArrayList<FluidStack>();
-        final List<ItemStack> items = new ArrayList<ItemStack>();
+    private void gatherRecipeInputs() {
+        recipeFluids.clear();
+        recipeItems.clear();
         for (FluidTankType t : recipeTanks) {
             final FluidStack stack = getFluidStack(t.id);
-            if (FluidTest.isValid(stack)) fluids.add(stack);
+            if (FluidTest.isValid(stack)) recipeFluids.add(stack);
         }
 
         for (int i = 0; i < getSizeInventory(); ++i) {
             final ItemStack stack = getStackInSlot(i);
             if (ItemUtils.isEmpty(stack)) break;
-            items.add(stack);
+            recipeItems.add(stack);
         }
+    }
 
-        final ICheeseVatRecipe recipe = MilkRegistry.instance().cheeseVat().findRecipe(fluids, items);
+    private ICheeseVatRecipe findMilkCurdRecipe() {
+        recipeCache.begin();
+        for (FluidTankType t : recipeTanks) {
+            recipeCache.put(getFluidStack(t.id));
+        }
+        for (int i = 0; i < getSizeInventory(); ++i) {
+            recipeCache.put(getStackInSlot(i));
+        }
+        if (!recipeCache.isUnchanged()) {
+            gatherRecipeInputs();
+            recipeCache.set(MilkRegistry.instance().cheeseVat().findRecipe(recipeFluids, recipeItems));
+        }
+        return recipeCache.get();
+    }
+
+    private boolean commitMilkCurdRecipe(boolean checkOnly) {
+        final ICheeseVatRecipe recipe = findMilkCurdRecipe();
         if (recipe != null) {
+            gatherRecipeInputs();
+            final List<FluidStack> fluids = recipeFluids;
             final List<IMultiItemStacks> inputItems = recipe.getInputItemStacks();
             final List<IMultiFluidStacks> inputFluids = recipe.getInputFluidStacks();
             // locate all the items in the inventory
@@ -373,6 +398,7 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
                     if (isHeated()) commitRecipe();
                 }
             }
+            if (isIdle() && !recheckRecipe && heatComponent.isSettled()) sleep();
         }
     }
 
@@ -550,13 +576,23 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
     public boolean readFromStream_CheeseVat(ByteBuf stream) throws IOException {
-        this.progressMax = stream.readInt();
+        this.progressMax = StreamUtils.readVarInt(stream);
         this.progress = stream.readFloat();
+        return false;
+    }
+
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
+    public boolean readFromStream_CheeseVatHeat(ByteBuf stream) throws IOException {
         heatComponent.readFromStream(stream);
+        return false;
+    }
+
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
+    public boolean readFromStream_CheeseVatState(ByteBuf stream) throws IOException {
         String name = "idle";
 //		try
 //		{
-        name = StreamUtils.readStringASCII(stream);
+        name = StreamUtils.readStringASCII(stream, CheeseVatState.NAMES);
 //		}
 //		catch (UnsupportedEncodingException ex)
 //		{
@@ -566,11 +602,22 @@ public class TileEntityCheeseVat extends GrowthcraftTileDeviceBase implements IT
         return false;
     }
 
+    // progress, heat and state are separate network sections, so a change to one doesn't resend the others
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
     public boolean writeToStream_CheeseVat(ByteBuf stream) throws IOException {
-        stream.writeInt(progressMax);
+        StreamUtils.writeVarInt(stream, progressMax);
         stream.writeFloat(progress);
+        return false;
+    }
+
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
+    public boolean writeToStream_CheeseVatHeat(ByteBuf stream) throws IOException {
         heatComponent.writeToStream(stream);
+        return false;
+    }
+
+    @TileEventHandler(event = TileEventHandler.EventType.NETWORK_WRITE)
+    public boolean writeToStream_CheeseVatState(ByteBuf stream) throws IOException {
 //		try
 //		{
         StreamUtils.writeStringASCII(stream, vatState.name);
@@ -4,13 +4,16 @@ import java.io.IOException;
 
 import growthcraft.core.shared.io.nbt.INBTItemSerializable;
 import growthcraft.core.shared.client.utils.FXHelper;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.core.shared.utils.Pair;
 import growthcraft.core.shared.utils.PulseStepper;
 import growthcraft.core.shared.utils.SpatialRandom;
 import growthcraft.core.shared.utils.TickUtils;
 import growthcraft.core.shared.tileentity.GrowthcraftTileBase;
+import growthcraft.core.shared.tileentity.TileWakeScheduler;
 import growthcraft.core.shared.tileentity.event.TileEventHandler;
 import growthcraft.core.shared.tileentity.feature.IFluidTankOperable;
+import growthcraft.core.shared.tileentity.feature.ITileWakeable;
 import growthcraft.milk.common.item.ItemBlockHangingCurds;
 import growthcraft.milk.common.tileentity.struct.CheeseCurd;
 import growthcraft.milk.shared.definition.ICheeseType;
@@ -20,13 +23,12 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITickable, INBTItemSerializable {
+public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITileWakeable, INBTItemSerializable {
     // SpatialRandom instance
     // Crash: @SideOnly(Side.CLIENT)
     private SpatialRandom sprand = new SpatialRandom();
@@ -46,6 +48,11 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
     @SideOnly(Side.CLIENT)
     private int clientStep;
 
+    /// World time the curd and the whey pulsar were advanced up to, -1 until the tile is in a world
+    private long advancedUntil = -1;
+    /// World time the drip animation was advanced up to
+    private long animatedUntil;
+
     private CheeseCurd cheeseCurd = new CheeseCurd();
 
     private IPancheonTile getPancheonTile() {
@@ -78,43 +85,80 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
     }
 
     @Override
-    public void update() {
+    public void onLoad() {
+        super.onLoad();
+        if (!world.isRemote) {
+            TileWakeScheduler.instance().schedule(this, world.getTotalWorldTime());
+        }
+    }
+
+    private void drip() {
+        if (!isDried()) {
+            final IPancheonTile pancheonTile = getPancheonTile();
+            // When a pancheon is present, try filling it with Whey
+            if (pancheonTile != null) {
+                final IFluidTankOperable fh = pancheonTile.getPancheonFluidHandler();
+                final FluidStack stack = GrowthcraftMilkFluids.whey.asFluidStack(100);
+                if (fh.canFill(EnumFacing.UP, stack.getFluid())) {
+                    fh.fill(EnumFacing.UP, stack, true);
+                }
+            }
+            // regardless of a pancheon being present, the curd SHOULD drip
+            serverStep++;
+            markDirtyAndUpdate();
+        }
+    }
+
+    /**
+     * Dries the curd and drips the whey up to the current world time, server side.
+     */
+    private void catchUp() {
+        final long now = world.getTotalWorldTime();
+        if (advancedUntil < 0 || advancedUntil > now) this.advancedUntil = now;
+        // pulses are handled one by one, the curd may dry up in between
+        int untilPulse = wheyPulsar.ticksUntilPulse();
+        while (untilPulse >= 0 && advancedUntil + untilPulse <= now) {
+            cheeseCurd.advance(untilPulse);
+            wheyPulsar.advance(untilPulse);
+            this.advancedUntil += untilPulse;
+            drip();
+            untilPulse = wheyPulsar.ticksUntilPulse();
+        }
+        cheeseCurd.advance(now - advancedUntil);
+        wheyPulsar.advance(now - advancedUntil);
+        this.advancedUntil = now;
+    }
+
+    @Override
+    public void onWake() {
+        final long now = world.getTotalWorldTime();
         if (!world.isRemote) {
+            catchUp();
+
             if (cheeseCurd.needClientUpdate) {
                 cheeseCurd.needClientUpdate = false;
                 markForUpdate();
             }
-            cheeseCurd.update();
-            if (wheyPulsar.update() == PulseStepper.State.PULSE) {
-                if (!isDried()) {
-                    final IPancheonTile pancheonTile = getPancheonTile();
-                    // When a pancheon is present, try filling it with Whey
-                    if (pancheonTile != null) {
-                        final IFluidTankOperable fh = pancheonTile.getPancheonFluidHandler();
-                        final FluidStack stack = GrowthcraftMilkFluids.whey.asFluidStack(100);
-                        if (fh.canFill(EnumFacing.UP, stack.getFluid())) {
-                            fh.fill(EnumFacing.UP, stack, true);
-                        }
-                    }
-                    // regardless of a pancheon being present, the curd SHOULD drip
-                    serverStep++;
-                    markDirtyAndUpdate();
-                }
+
+            if (!isDried()) {
+                int next = cheeseCurd.ticksUntilDried();
+                final int untilPulse = wheyPulsar.ticksUntilPulse();
+                if (untilPulse >= 0) next = Math.min(next, untilPulse);
+                TileWakeScheduler.instance().schedule(this, now + Math.max(1, next));
             }
         } else {
-            if (clientStep != serverStep) {
-                this.clientStep = serverStep;
-                animPulsar.reset();
+            final int pulses = animPulsar.advance(now - animatedUntil);
+            this.animatedUntil = now;
+            for (int i = 0; i < pulses && !isDried(); ++i) {
+                final Pair<Double, Double> p = sprand.nextCenteredD2();
+                final double px = (double) pos.getX() + 0.5 + p.left * 0.5;
+                final double py = (double) pos.getY() + 2.0 / 16.0;
+                final double pz = (double) pos.getZ() + 0.5 + p.right * 0.5;
+                FXHelper.dropParticle(world, px, py, pz, GrowthcraftMilkFluids.whey.getItemColor());
             }
-
-            if (animPulsar.update() == PulseStepper.State.PULSE) {
-                if (!isDried()) {
-                    final Pair<Double, Double> p = sprand.nextCenteredD2();
-                    final double px = (double) pos.getX() + 0.5 + p.left * 0.5;
-                    final double py = (double) pos.getY() + 2.0 / 16.0;
-                    final double pz = (double) pos.getZ() + 0.5 + p.right * 0.5;
-                    FXHelper.dropParticle(world, px, py, pz, GrowthcraftMilkFluids.whey.getItemColor());
-                }
+            final int untilPulse = animPulsar.ticksUntilPulse();
+            if (untilPulse >= 0) {
+                TileWakeScheduler.instance().schedule(this, now + untilPulse);
             }
         }
     }
@@ -138,6 +182,7 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
     public void readFromNBT_HangingCurds(NBTTagCompound nbt) {
         readCheeseCurdFromNBT(nbt);
         readWheyPulsarFromNBT(nbt);
+        this.advancedUntil = nbt.hasKey("advanced_until") ? nbt.getLong("advanced_until") : -1;
     }
 
     protected void writeCheeseCurdToNBT(NBTTagCompound nbt) {
@@ -150,6 +195,8 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
 
     @Override
     public void writeToNBTForItem(NBTTagCompound nbt) {
+        // the item carries no time, so it has to be as of now
+        if (world != null && !world.isRemote) catchUp();
         super.writeToNBTForItem(nbt);
         writeCheeseCurdToNBT(nbt);
         writeWheyPulsarToNBT(nbt);
@@ -159,13 +206,22 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
     public void writeToNBT_HangingCurds(NBTTagCompound nbt) {
         writeCheeseCurdToNBT(nbt);
         writeWheyPulsarToNBT(nbt);
+        // the curd is as of this time, the time in between is caught up on when loaded again
+        nbt.setLong("advanced_until", advancedUntil);
     }
 
     @TileEventHandler(event = TileEventHandler.EventType.NETWORK_READ)
     public boolean readFromStream_HangingCurds(ByteBuf stream) throws IOException {
         cheeseCurd.readFromStream(stream);
         wheyPulsar.readFromStream(stream);
-        this.serverStep = stream.readInt();
+        this.serverStep = StreamUtils.readVarInt(stream);
+        if (world != null && world.isRemote && clientStep != serverStep) {
+            // play the drip animation
+            this.clientStep = serverStep;
+            animPulsar.reset();
+            this.animatedUntil = world.getTotalWorldTime();
+            TileWakeScheduler.instance().schedule(this, animatedUntil + animPulsar.ticksUntilPulse());
+        }
         return true;
     }
 
@@ -173,11 +229,12 @@ public class TileEntityHangingCurds extends GrowthcraftTileBase implements ITick
     public boolean writeToStream_HangingCurds(ByteBuf stream) throws IOException {
         cheeseCurd.writeToStream(stream);
         wheyPulsar.writeToStream(stream);
-        stream.writeInt(serverStep);
+        StreamUtils.writeVarInt(stream, serverStep);
         return true;
     }
 
     public ItemStack asItemStack() {
+        if (world != null && !world.isRemote) catchUp();
         ICheeseType type = cheeseCurd.getType();
         final ItemStack stack = type.getCurdBlocks().asStack();
         final NBTTagCompound tag = ItemBlockHangingCurds.openNBT(stack);
@@ -13,11 +13,16 @@ public enum CheeseVatState {
 
     public static final BiMap<String, CheeseVatState> stateMap = HashBiMap.create();
     private static final CheeseVatState[] VALUES = {IDLE, PREPARING_RICOTTA, PREPARING_CHEESE, PREPARING_CURDS};
+    /**
+     * The state names, for {@link growthcraft.core.shared.io.stream.StreamUtils#readStringASCII(io.netty.buffer.ByteBuf, String[])}
+     */
+    public static final String[] NAMES = new String[VALUES.length];
     public final String name;
 
     static {
         for (CheeseVatState state : VALUES) {
             stateMap.put(state.name, state);
+            NAMES[state.ordinal()] = state.name;
         }
     }
 
@@ -26,6 +31,7 @@ public enum CheeseVatState {
     }
 
     public static CheeseVatState getStateSafe(String name) {
+        if (name == null) return IDLE;
         final CheeseVatState state = stateMap.get(name);
         if (state != null) return state;
         return IDLE;
@@ -85,6 +85,7 @@ public class Pancheon extends DeviceProgressive {
             }
         } else {
             if (resetTime()) markDirty();
+            sleep();
         }
     }
 }
@@ -1,6 +1,7 @@
 package growthcraft.milk.common.tileentity.struct;
 
 import growthcraft.core.shared.io.stream.IStreamable;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.milk.GrowthcraftMilk;
 import growthcraft.milk.common.item.ItemBlockCheeseBlock;
 import growthcraft.milk.shared.MilkRegistry;
@@ -226,9 +227,9 @@ public class Cheese implements IStreamable {
     public boolean readFromStream(ByteBuf stream) {
         this.cheese = CheeseIO.loadFromStream(stream);
         this.cheeseStage = EnumCheeseStage.loadFromStream(stream);
-        this.age = stream.readInt();
-        this.topSlices = stream.readInt();
-        this.topSlicesMax = stream.readInt();
+        this.age = StreamUtils.readVarInt(stream);
+        this.topSlices = StreamUtils.readVarInt(stream);
+        this.topSlicesMax = StreamUtils.readVarInt(stream);
         this.isDoubleStacked = stream.readBoolean();
         return false;
     }
@@ -237,22 +238,40 @@ public class Cheese implements IStreamable {
     public boolean writeToStream(ByteBuf stream) {
         CheeseIO.writeToStream(stream, cheese);
         cheeseStage.writeToStream(stream);
-        stream.writeInt(age);
-        stream.writeInt(topSlices);
-        stream.writeInt(topSlicesMax);
+        StreamUtils.writeVarInt(stream, age);
+        StreamUtils.writeVarInt(stream, topSlices);
+        StreamUtils.writeVarInt(stream, topSlicesMax);
         stream.writeBoolean(isDoubleStacked);
         return false;
     }
 
     public void update() {
+        advance(1);
+    }
+
+    /**
+     * Ages the cheese by the given number of ticks at once.
+     *
+     * @param ticks - number of ticks which passed
+     */
+    public void advance(long ticks) {
         if (!isAged()) {
             if (canAge()) {
-                if (this.age < this.ageMax) {
-                    this.age += 1;
-                } else {
+                if (ticks > 0) {
+                    this.age = (int) Math.min(ageMax, age + ticks);
+                }
+                if (this.age >= this.ageMax) {
                     setStage(EnumCheeseStage.AGED);
                 }
             }
         }
     }
+
+    /**
+     * @return number of ticks until the cheese is aged, -1 if it isn't ageing
+     */
+    public int ticksUntilAged() {
+        if (isAged() || !canAge()) return -1;
+        return Math.max(0, ageMax - age);
+    }
 }
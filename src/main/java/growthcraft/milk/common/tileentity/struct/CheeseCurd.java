@@ -2,6 +2,7 @@ package growthcraft.milk.common.tileentity.struct;
 
 import growthcraft.core.shared.io.nbt.INBTSerializableContext;
 import growthcraft.core.shared.io.stream.IStreamable;
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.milk.shared.MilkRegistry;
 import growthcraft.milk.shared.cheese.CheeseIO;
 import growthcraft.milk.shared.definition.ICheeseType;
@@ -68,7 +69,7 @@ public class CheeseCurd implements INBTSerializableContext, IStreamable {
     public boolean readFromStream(ByteBuf stream) {
         this.cheese = CheeseIO.loadFromStream(stream);
         this.dried = stream.readBoolean();
-        this.age = stream.readInt();
+        this.age = StreamUtils.readVarInt(stream);
         return false;
     }
 
@@ -76,23 +77,41 @@ public class CheeseCurd implements INBTSerializableContext, IStreamable {
     public boolean writeToStream(ByteBuf stream) {
         CheeseIO.writeToStream(stream, cheese);
         stream.writeBoolean(dried);
-        stream.writeInt(age);
+        StreamUtils.writeVarInt(stream, age);
         return false;
     }
 
     public void update() {
+        advance(1);
+    }
+
+    /**
+     * Dries the curd by the given number of ticks at once.
+     *
+     * @param ticks - number of ticks which passed
+     */
+    public void advance(long ticks) {
         if (dried) {
             if (age != ageMax) {
                 this.age = ageMax;
                 this.needClientUpdate = true;
             }
         } else {
-            if (this.age < ageMax) {
-                this.age += 1;
-            } else {
+            if (ticks > 0) {
+                this.age = (int) Math.min(ageMax, age + ticks);
+            }
+            if (this.age >= ageMax) {
                 this.dried = true;
                 this.needClientUpdate = true;
             }
         }
     }
+
+    /**
+     * @return number of ticks until the curd is dried, -1 if it already is
+     */
+    public int ticksUntilDried() {
+        if (dried) return -1;
+        return Math.max(0, ageMax - age);
+    }
 }
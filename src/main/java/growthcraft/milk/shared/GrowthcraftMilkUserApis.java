@@ -14,7 +14,7 @@ public class GrowthcraftMilkUserApis {
     }
 
     public void setConfigDirectory(File dir) {
-        churnRecipes.setConfigFile(dir, "growthcraft/milk/churn_recipes.json");
+        churnRecipes.setConfigFile(dir, "growthcraft/milk/churn_recipes.json").prefetch();
     }
 
     public void preInit() {
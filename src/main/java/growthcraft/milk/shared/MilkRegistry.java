@@ -11,7 +11,7 @@ public class MilkRegistry {
 
     private final CheesePressRegistry cheesePressRegistry = new CheesePressRegistry();
     private final CheeseVatRegistry cheeseVatRegistry = new CheeseVatRegistry();
-    private final ChurnRegistry churnRegistry = new ChurnRegistry();
+    private volatile ChurnRegistry churnRegistry = new ChurnRegistry();
     private final PancheonRegistry pancheonRegistry = new PancheonRegistry();
     private final CheeseRegistry cheeseRegistry = new CheeseRegistry();
 
@@ -43,6 +43,15 @@ public class MilkRegistry {
         return churnRegistry;
     }
 
+    /**
+     * Replaces the ChurnRegistry, i.e. after the user config was reloaded.
+     *
+     * @param registry - filled registry to use from now on
+     */
+    public void setChurnRegistry(ChurnRegistry registry) {
+        this.churnRegistry = registry;
+    }
+
     /**
      * @return instance of the PancheonRegistry
      */
@@ -1,5 +1,6 @@
 package growthcraft.milk.shared.cheese;
 
+import growthcraft.core.shared.io.stream.StreamUtils;
 import growthcraft.milk.shared.MilkRegistry;
 import growthcraft.milk.shared.definition.ICheeseType;
 import io.netty.buffer.ByteBuf;
@@ -11,12 +12,12 @@ public class CheeseIO {
     }
 
     public static ICheeseType loadFromStream(ByteBuf stream) {
-        final int id = stream.readInt();
+        final int id = StreamUtils.readSignedVarInt(stream);
         return MilkRegistry.instance().cheese().getSafeCheeseById(id);
     }
 
     public static boolean writeToStream(ByteBuf stream, ICheeseType type) {
-        stream.writeInt(MilkRegistry.instance().cheese().getCheeseId(type));
+        StreamUtils.writeSignedVarInt(stream, MilkRegistry.instance().cheese().getCheeseId(type));
         return false;
     }
 
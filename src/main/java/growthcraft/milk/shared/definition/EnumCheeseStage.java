@@ -1,5 +1,6 @@
 package growthcraft.milk.shared.definition;
 
+import growthcraft.core.shared.io.stream.StreamUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.IStringSerializable;
@@ -26,7 +27,7 @@ public enum EnumCheeseStage implements IStringSerializable {
     }
 
     public boolean writeToStream(ByteBuf stream) {
-        stream.writeInt(index);
+        StreamUtils.writeVarInt(stream, index);
         return false;
     }
 
@@ -42,7 +43,7 @@ public enum EnumCheeseStage implements IStringSerializable {
     }
 
     public static EnumCheeseStage loadFromStream(ByteBuf stream) {
-        final int id = stream.readInt();
+        final int id = StreamUtils.readVarInt(stream);
         return getSafeById(id);
     }
 
@@ -1,7 +1,7 @@
 package growthcraft.milk.shared.processing.cheesepress;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -12,7 +12,7 @@ import growthcraft.milk.shared.Reference;
 import net.minecraft.item.ItemStack;
 
 public class CheesePressRegistry {
-    private List<ICheesePressRecipe> recipes = new ArrayList<ICheesePressRecipe>();
+    private final List<ICheesePressRecipe> recipes = new CopyOnWriteArrayList<ICheesePressRecipe>();
 
     public void addRecipe(@Nonnull ICheesePressRecipe recipe) {
         GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding new cheese press recipe {%s}", recipe);
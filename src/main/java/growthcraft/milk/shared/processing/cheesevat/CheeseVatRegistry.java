@@ -1,7 +1,7 @@
 package growthcraft.milk.shared.processing.cheesevat;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -17,7 +17,7 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class CheeseVatRegistry {
-    private List<ICheeseVatRecipe> recipes = new ArrayList<ICheeseVatRecipe>();
+    private final List<ICheeseVatRecipe> recipes = new CopyOnWriteArrayList<ICheeseVatRecipe>();
 
     public void addRecipe(ICheeseVatRecipe recipe) {
         recipes.add(recipe);
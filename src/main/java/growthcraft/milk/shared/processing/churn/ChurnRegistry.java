@@ -1,9 +1,7 @@
 package growthcraft.milk.shared.processing.churn;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -11,14 +9,15 @@ import javax.annotation.Nullable;
 import growthcraft.core.shared.GrowthcraftLogger;
 import growthcraft.core.shared.fluids.FluidKey;
 import growthcraft.core.shared.fluids.FluidTest;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import growthcraft.milk.shared.Reference;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class ChurnRegistry {
-    private Map<Fluid, IChurnRecipe> recipes = new HashMap<Fluid, IChurnRecipe>();
-    private Set<FluidKey> fluidIngredients = new HashSet<FluidKey>();
+    private final CopyOnWriteMap<Fluid, IChurnRecipe> recipes = new CopyOnWriteMap<Fluid, IChurnRecipe>();
+    private final Set<FluidKey> fluidIngredients = ConcurrentHashMap.newKeySet();
 
     public void addRecipe(@Nonnull IChurnRecipe recipe) {
         final FluidStack fluidStack = recipe.getInputFluidStack();
@@ -8,6 +8,7 @@ import growthcraft.core.shared.config.schema.FluidStackSchema;
 import growthcraft.core.shared.config.schema.ItemKeySchema;
 import growthcraft.milk.shared.MilkRegistry;
 import growthcraft.milk.shared.Reference;
+import growthcraft.milk.shared.processing.churn.ChurnRegistry;
 import growthcraft.milk.shared.processing.churn.IChurnRecipe;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
@@ -44,7 +45,7 @@ public class UserChurnRecipesConfig extends AbstractUserJSONConfig {
         this.recipes = gson.fromJson(reader, UserChurnRecipes.class);
     }
 
-    private void addChurnRecipe(UserChurnRecipe recipe) {
+    private void addChurnRecipe(ChurnRegistry registry, UserChurnRecipe recipe) {
         if (recipe == null) {
             GrowthcraftLogger.getLogger(Reference.MODID).error("Invalid recipe");
             return;
@@ -57,19 +58,31 @@ public class UserChurnRecipesConfig extends AbstractUserJSONConfig {
 
         for (IChurnRecipe churnRecipe : recipe.toChurnRecipes()) {
             GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding user churn recipe {%s}", churnRecipe);
-            MilkRegistry.instance().churn().addRecipe(churnRecipe);
+            registry.addRecipe(churnRecipe);
         }
     }
 
-    @Override
-    public void postInit() {
+    private void applyRecipes(ChurnRegistry registry) {
         if (recipes != null) {
             if (recipes.data != null) {
                 GrowthcraftLogger.getLogger(Reference.MODID).debug("Adding %d user brewing recipes.", recipes.data.size());
-                for (UserChurnRecipe recipe : recipes.data) addChurnRecipe(recipe);
+                for (UserChurnRecipe recipe : recipes.data) addChurnRecipe(registry, recipe);
             } else {
                 GrowthcraftLogger.getLogger(Reference.MODID).error("Recipes data is invalid!");
             }
         }
     }
+
+    @Override
+    public void postInit() {
+        applyRecipes(MilkRegistry.instance().churn());
+    }
+
+    @Override
+    public synchronized boolean reapply() {
+        final ChurnRegistry registry = new ChurnRegistry();
+        applyRecipes(registry);
+        MilkRegistry.instance().setChurnRegistry(registry);
+        return true;
+    }
 }
@@ -1,18 +1,16 @@
 package growthcraft.milk.shared.processing.pancheon;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.core.shared.GrowthcraftLogger;
+import growthcraft.core.shared.utils.CopyOnWriteMap;
 import growthcraft.milk.shared.Reference;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class PancheonRegistry {
-    private Map<Fluid, IPancheonRecipe> recipes = new HashMap<Fluid, IPancheonRecipe>();
+    private final CopyOnWriteMap<Fluid, IPancheonRecipe> recipes = new CopyOnWriteMap<Fluid, IPancheonRecipe>();
 
     public void addRecipe(@Nonnull IPancheonRecipe recipe) {
         final Fluid fluid = recipe.getInputFluid().getFluid();
@@ -1,6 +1,8 @@
 package growthcraft.rice.common.block;
 
 import growthcraft.core.shared.block.BlockPaddyBase;
+import growthcraft.core.shared.block.CropEnvironment;
+import growthcraft.core.shared.block.ICropDataProvider;
 import growthcraft.rice.shared.Reference;
 import growthcraft.rice.shared.init.GrowthcraftRiceItems;
 import net.minecraft.block.BlockCrops;
@@ -16,6 +18,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.EnumPlantType;
+import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -26,7 +29,7 @@ import java.util.Random;
 
 import static growthcraft.core.shared.block.BlockPaddyBase.IS_RADIOACTIVE;
 
-public class BlockRiceCrop extends BlockCrops implements IGrowable, IPlantable {
+public class BlockRiceCrop extends BlockCrops implements IGrowable, IPlantable, ICropDataProvider {
 
     private static final AxisAlignedBB[] BOUNDING_BOXES = new AxisAlignedBB[]{
             new AxisAlignedBB(0.0625 * 2, 0.0625 * 0, 0.0625 * 2, 0.0625 * 14, 0.0625 * 6, 0.0625 * 14),
@@ -107,6 +110,29 @@ public class BlockRiceCrop extends BlockCrops implements IGrowable, IPlantable {
         return EnumPlantType.Crop;
     }
 
+    @Override
+    public float getGrowthProgress(IBlockAccess world, BlockPos pos, IBlockState state) {
+        return (float) getAge(state) / (float) getMaxAge();
+    }
+
+    @Override
+    public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand) {
+        // NOTE: Same as in BlockCrops.updateTick(World, BlockPos, IBlockState, Random), with the growth chance kept
+        checkAndDropBlock(worldIn, pos, state);
+
+        if (!worldIn.isAreaLoaded(pos, 1)) return;
+        if (worldIn.getLightFromNeighbors(pos.up()) >= 9) {
+            final int age = getAge(state);
+            if (age < getMaxAge()) {
+                final float f = CropEnvironment.instance().getGrowthChance(this, worldIn, pos);
+                if (ForgeHooks.onCropsGrowPre(worldIn, pos, state, rand.nextInt((int) (25.0F / f) + 1) == 0)) {
+                    worldIn.setBlockState(pos, withAge(age + 1), 2);
+                    ForgeHooks.onCropsGrowPost(worldIn, pos, state, worldIn.getBlockState(pos));
+                }
+            }
+        }
+    }
+
     @Override
     public void grow(World worldIn, Random random, BlockPos pos, IBlockState state) {
         this.grow(worldIn, pos, state);